@@ -0,0 +1,105 @@
+package practice.board.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import practice.board.exception.ApiException;
+import practice.board.exception.ErrorCode;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱(encode, matches)을 전용 스레드풀에서 실행
+ * 동시에 해싱하는 수를 스레드 수로 제한하고, 대기열이 가득 차면 기다리지 않고 바로 거절 (429)
+ * timeout 까지 결과가 없으면 503 (bcrypt 는 interrupt 로 멈추지 않으므로 이미 시작한 해싱은 끝까지 실행되고 결과만 버림)
+ * -> 로그인 요청이 몰려도 요청 스레드, CPU 를 해싱이 전부 차지하지 않음
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 해시의 알고리즘, cost 만 확인 (해싱 X) -> 스레드풀 사용 X
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 대기열에 있는 해싱 요청 수
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 대기열이 가득 참. queueSize={}", getQueueSize());
+            throw new ApiException(ErrorCode.TOO_MANY_PASSWORD_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancelIfQueued(future);
+            log.warn("비밀번호 해싱 시간 초과. timeoutMillis={}, queueSize={}", timeoutMillis, getQueueSize());
+            throw new ApiException(ErrorCode.PASSWORD_HASH_TIMEOUT);
+        } catch (InterruptedException e) {
+            cancelIfQueued(future);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.PASSWORD_HASH_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 아직 대기열에 있는 요청만 취소하고 대기열에서 제거 (실행 중인 해싱은 interrupt 해도 멈추지 않으므로 그대로 둠)
+     */
+    private void cancelIfQueued(FutureTask<?> future) {
+        if (executor.remove(future)) {
+            future.cancel(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
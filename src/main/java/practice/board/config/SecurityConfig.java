@@ -2,6 +2,7 @@ package practice.board.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,7 +11,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,10 +22,11 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import practice.board.jwt.*;
-import practice.board.repository.MemberRepository;
 import practice.board.service.CustomUserDetailsService;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpMethod.*;
 
@@ -35,13 +39,26 @@ public class SecurityConfig {
     private final ObjectMapper objectMapper;
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
 
     private final String[] whiteList = {"/", "/api/members/login"};
 
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Value("${security.password-hash.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password-hash.threads:0}")  //0 이면 cpu 코어 수
+    private int passwordHashThreads;
+
+    @Value("${security.password-hash.queue-capacity:64}")
+    private int passwordHashQueueCapacity;
+
+    @Value("${security.password-hash.timeout-ms:3000}")
+    private long passwordHashTimeoutMillis;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -60,7 +77,7 @@ public class SecurityConfig {
 
                 //filter 추가
 //                .addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtService, memberRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class)
 
                 .authorizeHttpRequests(requests -> requests
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()  //Preflight 요청 허용
@@ -70,6 +87,7 @@ public class SecurityConfig {
 //                        .requestMatchers(GET, "/api/members/**").hasRole("ADMIN")  //회원 조회 - ADMIN
                         .requestMatchers(GET, "/api/articles/**").permitAll()  //글 조회 - 인증 필요 없음
                         .requestMatchers(GET, "/api/comments/**").permitAll()  //댓글 조회 - 인증 필요 없음
+                        .requestMatchers(GET, "/api/member-deletions/**").permitAll()  //회원 탈퇴 진행 상태 - 탈퇴 완료 후에도 조회
                         .requestMatchers(POST, "/api/articles").authenticated()  //글 작성 - 인증 필요 (권한 상관없음)
                         .anyRequest().authenticated())  //그 외 모든 요청은 인증 필요
 
@@ -102,9 +120,18 @@ public class SecurityConfig {
     }
 
     //암호를 암호화하거나, 사용자가 입력한 암호가 기존 암호와 일치하는지 검사할 때 사용
+    //bcrypt cost 는 설정값 사용 (cost 를 올리면 로그인 성공 시 새 cost 로 다시 해싱), 해싱은 전용 스레드풀에서 실행
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength));
+
+        //bcrypt 외의 형식({noop}, {pbkdf2} 등)으로 저장된 비밀번호는 기존 방식으로 비교
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        int threads = passwordHashThreads > 0 ? passwordHashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, passwordHashQueueCapacity, passwordHashTimeoutMillis);
     }
 
     /*
@@ -133,7 +160,7 @@ public class SecurityConfig {
 
     @Bean
     public LoginSuccessJwtProvideHandler loginSuccessJwtProvideHandler() {
-        return new LoginSuccessJwtProvideHandler(jwtService, memberRepository);
+        return new LoginSuccessJwtProvideHandler(jwtService);
     }
 
     @Bean
@@ -1,10 +1,7 @@
 package practice.board.config.guard;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.catalina.security.SecurityUtil;
 import org.springframework.core.MethodParameter;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -13,13 +10,12 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import practice.board.domain.Member;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
-import practice.board.repository.MemberRepository;
 
 @Component
 @RequiredArgsConstructor
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final MemberRepository memberRepository;
+    private final LoginMemberContext loginMemberContext;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -28,9 +24,8 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
 
     @Override
     public Member resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        //TODO authService 랑 좀 겹치는 느낌...
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return memberRepository.findByUsername(authentication.getName())
+        //AuthService 와 같은 요청에서 사용해도 회원은 한번만 조회
+        return loginMemberContext.getLoginMember()
                 .orElseThrow(() ->
                         new ApiException(ErrorCode.MEMBER_NOT_FOUND));
     }
@@ -0,0 +1,69 @@
+package practice.board.config.guard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import practice.board.domain.Member;
+import practice.board.repository.MemberRepository;
+
+import java.util.Optional;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * 로그인한 회원 조회 - 한 요청 안에서는 한번만 조회
+ * LoginMemberArgumentResolver, AuthService(@PreAuthorize 포함) 에서 같은 회원을 여러 번 조회하지 않도록 request attribute 에 보관
+ * (요청 밖에서 호출되면 매번 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginMemberContext {
+
+    private static final String ATTRIBUTE_NAME = LoginMemberContext.class.getName() + ".LOGIN_MEMBER";
+
+    private final MemberRepository memberRepository;
+
+    private record LoginMember(String username, Optional<Member> member) {
+    }
+
+    /**
+     * 로그인한 회원 - 로그인하지 않았거나 회원이 없으면 Optional.empty()
+     */
+    public Optional<Member> getLoginMember() {
+        Optional<String> username = getLoginUsername();
+        if (username.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return memberRepository.findByUsername(username.get());
+        }
+
+        //이번 요청에서 이미 조회한 경우 (토큰 재발급 등으로 username 이 바뀌면 다시 조회)
+        Object cached = requestAttributes.getAttribute(ATTRIBUTE_NAME, SCOPE_REQUEST);
+        if (cached instanceof LoginMember loginMember && loginMember.username().equals(username.get())) {
+            return loginMember.member();
+        }
+
+        Optional<Member> member = memberRepository.findByUsername(username.get());
+        requestAttributes.setAttribute(ATTRIBUTE_NAME, new LoginMember(username.get(), member), SCOPE_REQUEST);
+        return member;
+    }
+
+    /**
+     * 로그인한 회원의 username (회원 조회 X)
+     */
+    public Optional<String> getLoginUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(authentication.getName());
+    }
+}
@@ -3,9 +3,12 @@ package practice.board.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import practice.board.repository.search.ArticleSearchIndexListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +18,8 @@ import static jakarta.persistence.FetchType.*;
 import static lombok.AccessLevel.*;
 
 @Entity
+@EntityListeners(ArticleSearchIndexListener.class)  //저장/수정 시 검색 색인 추가
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)  //수정 시 캐시에 넣지 않고 제거 (applyPendingViewCount 로 더한 조회수가 캐시되지 않도록)
 @Getter
 @EqualsAndHashCode(of = "id")
 @NoArgsConstructor(access = PROTECTED)
@@ -47,18 +52,24 @@ public class Article extends BaseTimeEntity {
 //    private Category category;
 
     @ColumnDefault("0")
+    @Column(updatable = false)  //조회수는 ArticleViewCountBuffer 에서 sql 로만 증가 (dirty checking 으로 덮어쓰지 않도록)
     private int viewCount;
 
     @ColumnDefault("0")
+    @Column(updatable = false)  //좋아요 수는 ArticleRepository.addLikes() 로만 변경
     private int likes;
 
     @ColumnDefault("0")
+    @Column(updatable = false)  //싫어요 수는 ArticleRepository.addDislikes() 로만 변경
     private int dislikes;
 
     @Builder.Default
     @OneToMany(mappedBy = "article", cascade = ALL, orphanRemoval = true)  //게시글 삭제 시 해당 게시글의 댓글도 모두 삭제됨
     private List<Comment> commentList = new ArrayList<>();
 
+    @Transient
+    private long appliedPendingViewCount;  //viewCount 에 더해준 (아직 db 에 반영되지 않은) 조회수
+
 
 
     //== 수정 메서드 ==//
@@ -125,24 +136,13 @@ public class Article extends BaseTimeEntity {
 
 
     //== 비즈니스 로직 ==//
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
-
-    public void increaseLikes() {
-        this.likes += 1;
-    }
-
-    public void decreaseLikes() {
-        this.likes -= 1;
-    }
-
-    public void increaseDislikes() {
-        this.dislikes += 1;
-    }
 
-    public void decreaseDislikes() {
-        this.dislikes -= 1;
+    /**
+     * db 에 아직 반영되지 않은 조회수를 viewCount 에 더함 (같은 엔티티에 여러 번 호출해도 중복해서 더하지 않음)
+     */
+    public void applyPendingViewCount(long pendingViewCount) {
+        this.viewCount += (int) (pendingViewCount - appliedPendingViewCount);
+        this.appliedPendingViewCount = pendingViewCount;
     }
 
 
@@ -0,0 +1,28 @@
+package practice.board.domain;
+
+import practice.board.exception.ApiException;
+
+import java.util.Arrays;
+
+import static practice.board.exception.ErrorCode.*;
+
+/**
+ * 게시글 검색 시 전체 데이터 수(count) 계산 방식
+ */
+public enum ArticleCountMode {
+
+    EXACT,  //정확한 count (캐시 사용, 게시글 저장/수정/삭제 시 무효화)
+    ESTIMATED,  //근사 count (저장/삭제 이후에도 캐시 유효시간 동안은 이전 값 사용)
+    NONE;  //count 쿼리 실행 X -> 다음 페이지 존재 여부(hasNext)만 응답
+
+
+    /**
+     * countMode 파라미터 -> ArticleCountMode 변환 (대소문자 구분 X)
+     */
+    public static ArticleCountMode from(String mode) {
+        return Arrays.stream(values())
+                .filter(countMode -> countMode.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new ApiException(INVALID_PARAMETER, "사용할 수 없는 countMode 입니다. countMode=" + mode));
+    }
+}
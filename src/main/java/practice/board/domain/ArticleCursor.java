@@ -0,0 +1,82 @@
+package practice.board.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import practice.board.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static practice.board.exception.ErrorCode.*;
+
+/**
+ * 커서 기반 페이징에서 사용하는 커서 - 마지막으로 조회한 게시글의 (정렬 기준 값, id)
+ * 클라이언트에게는 Base64 로 인코딩한 문자열로만 전달 (내부 구조 노출 X)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArticleCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final ArticleSort sort;
+    private final boolean desc;
+    private final String value;  //정렬 기준 값 (sort = ID 인 경우 id 와 동일)
+    private final Long id;
+
+
+    public static ArticleCursor of(ArticleSort sort, boolean desc, Object value, Long id) {
+        return new ArticleCursor(sort, desc, String.valueOf(value), id);
+    }
+
+
+    /**
+     * 커서 -> 문자열
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER, sort.name(), String.valueOf(desc), value, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 -> 커서
+     */
+    public static ArticleCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+
+            ArticleSort sort = ArticleSort.valueOf(parts[0]);
+            validateValue(sort, parts[2]);
+
+            return new ArticleCursor(sort, Boolean.parseBoolean(parts[1]), parts[2], Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {  //NumberFormatException 포함
+            throw new ApiException(INVALID_PARAMETER, "올바르지 않은 커서입니다. after=" + encoded);
+        }
+    }
+
+    /**
+     * 정렬 기준 값이 정렬 기준의 타입에 맞는지 체크 (seek 조건 만들 때 다시 변환)
+     */
+    private static void validateValue(ArticleSort sort, String value) {
+        switch (sort) {
+            case ID -> Long.parseLong(value);
+            case VIEW_COUNT, LIKES, DISLIKES -> Integer.parseInt(value);
+            case CREATED_DATE -> LocalDateTime.parse(value);
+        }
+    }
+
+    /**
+     * 요청한 정렬 조건과 커서의 정렬 조건이 같은지 체크
+     */
+    public boolean matches(ArticleSort sort, boolean desc) {
+        return this.sort == sort && this.desc == desc;
+    }
+}
@@ -2,6 +2,7 @@ package practice.board.domain;
 
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.util.StringUtils;
 
 @Data
 @Builder
@@ -11,4 +12,17 @@ public class ArticleSearchCond {
     private String content;
     private String nickname;
 
+
+    /**
+     * 검색 결과가 같은 조건은 같은 값이 되도록 정리 (빈 문자열 -> null)
+     * count 캐시의 key 로 사용
+     */
+    public ArticleSearchCond normalize() {
+        return ArticleSearchCond.builder()
+                .title(StringUtils.hasText(title) ? title : null)
+                .content(StringUtils.hasText(content) ? content : null)
+                .nickname(StringUtils.hasText(nickname) ? nickname : null)
+                .build();
+    }
+
 }
@@ -0,0 +1,36 @@
+package practice.board.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import practice.board.exception.ApiException;
+
+import java.util.Arrays;
+
+import static practice.board.exception.ErrorCode.*;
+
+/**
+ * 게시글 검색 시 가능한 정렬 기준
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ArticleSort {
+
+    ID("id"),
+    VIEW_COUNT("viewCount"),
+    LIKES("likes"),
+    DISLIKES("dislikes"),
+    CREATED_DATE("createdDate");
+
+    private final String property;  //요청 파라미터(sort)로 들어오는 값
+
+
+    /**
+     * sort 파라미터 -> ArticleSort 변환 (대소문자 구분 X)
+     */
+    public static ArticleSort from(String property) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.getProperty().equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new ApiException(INVALID_PARAMETER, "정렬 기준으로 사용할 수 없는 값입니다. sort=" + property));
+    }
+}
@@ -3,6 +3,8 @@ package practice.board.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +19,7 @@ import static lombok.AccessLevel.*;
 @Setter(value = PRIVATE)
 @Builder
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  //거의 바뀌지 않음 -> 2차 캐시
 public class Category {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +35,7 @@ public class Category {
     private Category parent;
 
     @Builder.Default
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  //하위 카테고리 id 목록도 캐시
     @OneToMany(mappedBy = "parent", cascade = ALL)  //부모 카테고리 삭제 시, 자식 카테고리 자동 삭제됨
     private List<Category> child = new ArrayList<>();
 
@@ -4,14 +4,18 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
+import practice.board.exception.ApiException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static jakarta.persistence.FetchType.LAZY;
 import static lombok.AccessLevel.*;
+import static practice.board.exception.ErrorCode.COMMENT_DEPTH_EXCEEDED;
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_path", columnList = "path"))  //하위 댓글 조회 (path like 'prefix%')
 @Getter
 @Setter(value = PRIVATE)
 @EqualsAndHashCode(of = "id")
@@ -20,6 +24,11 @@ import static lombok.AccessLevel.*;
 @Builder(access = PRIVATE)
 public class Comment extends BaseTimeEntity {
 
+    public static final String PATH_SEPARATOR = "/";
+    public static final String DELETED_CONTENT = "삭제된 댓글입니다.";
+    public static final int PATH_MAX_LENGTH = 1000;
+    public static final int MAX_DEPTH = (PATH_MAX_LENGTH - PATH_SEPARATOR.length()) / 11;  //depth 당 path 가 11자 ("0000000001/") 씩 늘어남 -> 90
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
     private Long id;
@@ -56,6 +65,14 @@ public class Comment extends BaseTimeEntity {
     @OneToMany(mappedBy = "parent")
     private List<Comment> childList = new ArrayList<>();  //부모 댓글을 삭제해도 자식 댓글은 남아있음
 
+    /**
+     * 조상 댓글 id 경로 (materialized path) ex) 최상위 댓글: "/", 1번 댓글의 자식: "/0000000001/"
+     * 자기 자신의 id 는 포함하지 않음 (IDENTITY 전략이라 생성 시점에 id 를 모름) -> getThreadPath() 사용
+     * id 를 고정 길이로 저장하므로 문자열 정렬 = 화면 표시 순서, 컬럼 길이 제한으로 MAX_DEPTH(90) 까지만 저장 가능
+     */
+    @Column(length = PATH_MAX_LENGTH)
+    private String path;
+
 
 
     //== 수정 ==//
@@ -67,7 +84,7 @@ public class Comment extends BaseTimeEntity {
     //== 화면상 삭제  ==//
     public void tempDelete() {
         this.isRemoved = true;
-        this.updateContent("삭제된 댓글입니다.");
+        this.updateContent(DELETED_CONTENT);
     }
 
 
@@ -85,9 +102,13 @@ public class Comment extends BaseTimeEntity {
 
 
     public void setParentAndDepth(Comment parentComment) {
+        if (parentComment.getDepth() >= MAX_DEPTH) {  //path 컬럼 길이 초과
+            throw new ApiException(COMMENT_DEPTH_EXCEEDED, "최대 댓글 깊이 초과. parentCommentId=" + parentComment.getId());
+        }
         this.parent = parentComment;
         parentComment.getChildList().add(this);
         this.depth = parentComment.getDepth() + 1;
+        this.path = parentComment.getThreadPath();
     }
 
 
@@ -95,6 +116,7 @@ public class Comment extends BaseTimeEntity {
 
     /**
      * parentComment 없으면 null 전달
+     * parentComment 의 depth 가 MAX_DEPTH 이상이면 COMMENT_DEPTH_EXCEEDED 예외
      */
     public static Comment createComment(Article article, Member member, String content, Comment parentComment) {
 
@@ -109,6 +131,7 @@ public class Comment extends BaseTimeEntity {
         }
         else {  //parentComment = null 인 경우
             comment.setDepth(0);
+            comment.setPath(PATH_SEPARATOR);
         }
         return comment;
     }
@@ -142,4 +165,26 @@ public class Comment extends BaseTimeEntity {
         return getChildList().isEmpty();
     }
 
+    /**
+     * 자기 자신까지 포함한 경로 ex) "/0000000001/0000000003/"
+     * 하위 댓글들의 path 는 모두 이 값으로 시작하고, 이 값으로 정렬하면 화면 표시 순서 (부모 다음에 자식, 형제는 id 순)
+     */
+    public String getThreadPath() {
+        return path + toPathSegment(id) + PATH_SEPARATOR;
+    }
+
+    /**
+     * 조상 댓글 id 리스트 (최상위 댓글부터)
+     */
+    public List<Long> getAncestorIds() {
+        return Arrays.stream(path.split(PATH_SEPARATOR))
+                .filter(segment -> !segment.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public static String toPathSegment(Long id) {
+        return String.format("%010d", id);
+    }
+
 }
@@ -14,6 +14,7 @@ import static org.hibernate.annotations.OnDeleteAction.*;
 @Builder
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_dislike_article_article_member", columnNames = {"article_id", "member_id"}))  //한 회원은 한 게시글에 싫어요 한번만
 public class DislikeArticle extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
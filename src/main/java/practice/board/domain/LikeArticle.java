@@ -14,6 +14,7 @@ import static org.hibernate.annotations.OnDeleteAction.CASCADE;
 @Getter
 @Setter(AccessLevel.PRIVATE)
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_like_article_article_member", columnNames = {"article_id", "member_id"}))  //한 회원은 한 게시글에 좋아요 한번만
 public class LikeArticle {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
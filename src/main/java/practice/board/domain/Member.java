@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import practice.board.repository.search.ArticleSearchIndexListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +22,9 @@ import static lombok.AccessLevel.*;
         @UniqueConstraint(name = "member_nickname_unique", columnNames = {"nickname"})
 })
 @Entity
+@EntityListeners(ArticleSearchIndexListener.class)  //저장/수정 시 nickname 검색 색인 추가
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  //2차 캐시 (region : practice.board.domain.Member)
+@NaturalIdCache  //username -> id 캐시 (region : practice.board.domain.Member##NaturalId)
 @Getter
 @Setter(value = PRIVATE)
 @EqualsAndHashCode(of = "id")
@@ -30,10 +38,11 @@ public class Member extends BaseTimeEntity {
     @Column(name = "member_id")
     private Long id;
 
+    @NaturalId
     @NotNull
     @Size(min = 1, max = 30)
     @Column(updatable = false)
-    private String username;  //아이디
+    private String username;  //아이디 (바뀌지 않음)
 
     @NotNull
     private String password;  //비밀번호
@@ -54,9 +63,6 @@ public class Member extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Role role;  //권한 [ADMIN, USER]
 
-    @Column(length = 1000)
-    private String refreshToken;
-
     @Builder.Default
     @OneToMany(mappedBy = "writer")
     private List<Article> articleList = new ArrayList<>();
@@ -121,14 +127,6 @@ public class Member extends BaseTimeEntity {
         this.setAddress(address);
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
-    public void destroyRefreshToken() {
-        this.refreshToken = null;
-    }
-
 //    public void addLikeList(Article article) {  //TODO article.increaseLikes() 랑 묶어줄 수 있으면 좋겠다.
 //        this.getLikeList().add(article);
 //    }
@@ -0,0 +1,43 @@
+package practice.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * refresh token 저장소 (JPA)
+ * 토큰 원문 대신 SHA-256 해시(앞 128bit)를 저장하고, 회원 1명당 기기(deviceId)별로 1개씩 보관
+ * Member 와 분리 -> 토큰 재발급 시 member row 를 수정하지 않음
+ */
+@Table(name = "refresh_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = {"token_hash"}),
+                @UniqueConstraint(name = "uk_refresh_token_username_device", columnNames = {"username", "device_id"})
+        },
+        indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"))
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    public static final int DEVICE_ID_MAX_LENGTH = 100;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private String tokenHash;
+
+    @Column(nullable = false, updatable = false, length = 30)
+    private String username;
+
+    @Column(name = "device_id", nullable = false, updatable = false, length = DEVICE_ID_MAX_LENGTH)
+    private String deviceId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,42 @@
+package practice.board.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 파일의 참조 수 (파일을 첨부한 게시글 수)
+ * 참조 수가 0 이 되고 일정 시간이 지나면 파일 삭제 (StoredFileService.sweepOrphans)
+ */
+@Table(name = "stored_file",
+        indexes = @Index(name = "idx_stored_file_ref_count_released_at", columnList = "ref_count, released_at"))
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile {
+
+    @Id
+    @Column(name = "file_path", length = 500)
+    private String filePath;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;  //마지막으로 참조가 해제된 시각
+
+    /**
+     * 참조 없는 상태로 생성 (참조 수는 StoredFileRepository.increaseRefCount 로 증가)
+     * 참조하는 게시글이 저장되지 못한 경우, sweepOrphans 에서 삭제되도록 releasedAt 설정
+     */
+    public static StoredFile createUnreferenced(String filePath, LocalDateTime now) {
+        StoredFile storedFile = new StoredFile();
+        storedFile.filePath = filePath;
+        storedFile.refCount = 0;
+        storedFile.releasedAt = now;
+        return storedFile;
+    }
+}
@@ -30,10 +30,20 @@ public enum ErrorCode {
 
     MEMBER_NOT_FOUND(NOT_FOUND, "회원 정보를 찾을 수 없습니다."),
 
+    MEMBER_DELETION_NOT_FOUND(NOT_FOUND, "회원 탈퇴 요청을 찾을 수 없습니다."),
+
+    TOO_MANY_MEMBER_DELETIONS(TOO_MANY_REQUESTS, "처리 중인 회원 탈퇴 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
     COMMENT_NOT_FOUND(NOT_FOUND, "댓글 정보를 찾을 수 없습니다."),
 
+    COMMENT_DEPTH_EXCEEDED(HttpStatus.BAD_REQUEST, "더 이상 답글을 달 수 없습니다. (최대 90단계)"),
+
     WRONG_PASSWORD(UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
 
+    TOO_MANY_PASSWORD_REQUESTS(TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    PASSWORD_HASH_TIMEOUT(SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     INVALID_PASSWORD_FORMAT(HttpStatus.BAD_REQUEST,
             "형식에 맞지 않는 비밀번호입니다. (비밀번호는 적어도 한개의 대문자, 소문자, 숫자, 특수기호(._?!*)를 포함하며, 8자리 이상 20자리 이하여야 합니다.)"),
 
@@ -49,13 +59,17 @@ public enum ErrorCode {
 
     FILE_DELETION_FAILED(HttpStatus.BAD_REQUEST, "파일 삭제에 실패하였습니다."),
 
+    FILE_GC_IN_PROGRESS(CONFLICT, "파일 정리가 이미 진행 중입니다."),
+
     DISLIKEARTICLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "싫어요한 적이 없는 게시글입니다."),  //TODO 메세지 수정 필요
 
     SELF_LIKE_ARTICLE(HttpStatus.BAD_REQUEST, "본인 글에는 좋아요가 불가능합니다."),
 
     SELF_DISLIKE_ARTICLE(HttpStatus.BAD_REQUEST, "본인 글에는 싫어요가 불가능합니다."),
 
-    LIKEARTICLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "좋아요한 적이 없는 게시글입니다.");
+    LIKEARTICLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "좋아요한 적이 없는 게시글입니다."),
+
+    REACTION_ALREADY_PROCESSED(CONFLICT, "이미 처리된 요청입니다.");
 
 
 
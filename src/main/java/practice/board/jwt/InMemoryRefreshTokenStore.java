@@ -0,0 +1,102 @@
+package practice.board.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리에 저장 (서버 1대, 재시작하면 다시 로그인 필요)
+ * tokenHash -> 토큰 정보, username -> (deviceId -> tokenHash)
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.refresh", name = "store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> devicesByUsername = new ConcurrentHashMap<>();
+
+    private record Entry(String username, String deviceId, LocalDateTime expiresAt) {
+    }
+
+    @Override
+    public void save(String username, String deviceId, String refreshToken, LocalDateTime expiresAt) {
+        String tokenHash = RefreshTokenStore.hash(refreshToken);
+        tokens.put(tokenHash, new Entry(username, deviceId, expiresAt));
+
+        //같은 기기의 이전 토큰 삭제
+        String oldHash = devicesByUsername.computeIfAbsent(username, key -> new ConcurrentHashMap<>())
+                .put(deviceId, tokenHash);
+        if (oldHash != null && !oldHash.equals(tokenHash)) {
+            tokens.remove(oldHash);
+        }
+    }
+
+    @Override
+    public Optional<String> findUsername(String refreshToken, LocalDateTime now) {
+        return Optional.ofNullable(tokens.get(RefreshTokenStore.hash(refreshToken)))
+                .filter(entry -> entry.expiresAt().isAfter(now))
+                .map(Entry::username);
+    }
+
+    /**
+     * 이전 토큰은 remove 로 꺼냄 -> 동시에 같은 토큰으로 재발급하면 하나만 성공
+     */
+    @Override
+    public Optional<String> rotate(String oldRefreshToken, String newRefreshToken, LocalDateTime expiresAt, LocalDateTime now) {
+        String oldHash = RefreshTokenStore.hash(oldRefreshToken);
+        Entry entry = tokens.remove(oldHash);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        //만료된 토큰은 교체하지 않고 삭제만
+        if (!entry.expiresAt().isAfter(now)) {
+            removeDevice(entry.username(), entry.deviceId(), oldHash);
+            return Optional.empty();
+        }
+
+        String newHash = RefreshTokenStore.hash(newRefreshToken);
+        tokens.put(newHash, new Entry(entry.username(), entry.deviceId(), expiresAt));
+        devicesByUsername.computeIfAbsent(entry.username(), key -> new ConcurrentHashMap<>())
+                .replace(entry.deviceId(), oldHash, newHash);
+        return Optional.of(entry.username());
+    }
+
+    @Override
+    public void deleteAllByUsername(String username) {
+        Map<String, String> devices = devicesByUsername.remove(username);
+        if (devices != null) {
+            devices.values().forEach(tokens::remove);
+        }
+    }
+
+    @Override
+    public long countByUsername(String username) {
+        Map<String, String> devices = devicesByUsername.get(username);
+        return devices == null ? 0 : devices.size();
+    }
+
+    @Override
+    public int removeExpired(LocalDateTime now) {
+        int removed = 0;
+        for (Map.Entry<String, Entry> token : tokens.entrySet()) {
+            Entry entry = token.getValue();
+            if (!entry.expiresAt().isAfter(now) && tokens.remove(token.getKey(), entry)) {
+                removeDevice(entry.username(), entry.deviceId(), token.getKey());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void removeDevice(String username, String deviceId, String tokenHash) {
+        devicesByUsername.computeIfPresent(username, (key, devices) -> {
+            devices.remove(deviceId, tokenHash);
+            return devices.isEmpty() ? null : devices;
+        });
+    }
+}
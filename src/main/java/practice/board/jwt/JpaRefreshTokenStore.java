@@ -0,0 +1,96 @@
+package practice.board.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import practice.board.domain.RefreshToken;
+import practice.board.repository.RefreshTokenRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * refresh_token 테이블에 저장 (token_hash 유니크 인덱스로 조회)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "jwt.refresh", name = "store", havingValue = "jpa", matchIfMissing = true)
+@Transactional
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL =
+            "insert into refresh_token (token_hash, username, device_id, expires_at) values (?, ?, ?, ?)";
+
+    /**
+     * 같은 기기의 토큰이 있으면 교체, 없으면 추가
+     * 같은 기기에서 동시에 로그인해서 둘 다 추가하는 경우 (username, device_id) 유니크 제약으로 하나만 성공 -> 실패한 쪽은 교체
+     */
+    @Override
+    public void save(String username, String deviceId, String refreshToken, LocalDateTime expiresAt) {
+        String tokenHash = RefreshTokenStore.hash(refreshToken);
+
+        if (refreshTokenRepository.replace(username, deviceId, tokenHash, expiresAt) > 0) {
+            return;
+        }
+
+        //제약 위반 시 savepoint 까지만 롤백 (현재 트랜잭션은 계속 사용), 영속성 컨텍스트를 거치지 않도록 jdbc 로 추가
+        TransactionTemplate nestedTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        nestedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+
+        try {
+            nestedTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.update(INSERT_SQL, tokenHash, username, deviceId, Timestamp.valueOf(expiresAt)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("같은 기기의 refresh token 이 동시에 추가됨. username={}, deviceId={}", username, deviceId);
+            refreshTokenRepository.replace(username, deviceId, tokenHash, expiresAt);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findUsername(String refreshToken, LocalDateTime now) {
+        return refreshTokenRepository.findByTokenHash(RefreshTokenStore.hash(refreshToken))
+                .filter(saved -> saved.getExpiresAt().isAfter(now))
+                .map(RefreshToken::getUsername);
+    }
+
+    /**
+     * 해시로 한번 조회 + 이전 해시 조건으로 한번 수정 (회원 테이블 조회, 수정 X)
+     */
+    @Override
+    public Optional<String> rotate(String oldRefreshToken, String newRefreshToken, LocalDateTime expiresAt, LocalDateTime now) {
+        String oldHash = RefreshTokenStore.hash(oldRefreshToken);
+
+        return refreshTokenRepository.findByTokenHash(oldHash)
+                .filter(saved -> refreshTokenRepository.rotate(oldHash, RefreshTokenStore.hash(newRefreshToken), expiresAt, now) == 1)
+                .map(RefreshToken::getUsername);
+    }
+
+    @Override
+    public void deleteAllByUsername(String username) {
+        refreshTokenRepository.deleteAllByUsername(username);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByUsername(String username) {
+        return refreshTokenRepository.countByUsername(username);
+    }
+
+    @Override
+    public int removeExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteExpired(now);
+    }
+}
@@ -1,5 +1,6 @@
 package practice.board.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,8 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import practice.board.exception.ApiException;
-import practice.board.repository.MemberRepository;
-import practice.board.service.MemberService;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -24,8 +23,6 @@ import static practice.board.exception.ErrorCode.*;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
-    private final MemberService memberService;  //TODO 이렇게 의존관계 설정해도 되나 - securityConfig 에도 의존관계 주입... 순환참조 오류?
 
     private final List<String> NO_CHECK_URL = Arrays.asList("/api/members/login", "/api/members");
 
@@ -37,29 +34,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
 
+        //access token 꺼내서 검증 (토큰은 한번만 파싱)
+        Optional<Claims> accessClaims = jwtService.extractAccessToken(request)
+                .flatMap(jwtService::parseValidAccessClaims);
+
         //필터 적용 여부 체크
+        //인증이 필요 없는 요청이라도 유효한 access token 이 있으면 인증정보 저장 (ex. 게시글 검색 시 좋아요 여부 조회)
         if (!isFilterApplicable(requestURI, method)) {
+            accessClaims.ifPresent(jwtService::saveAuthentication);
             filterChain.doFilter(request, response);
             return;
         }
 
-        //access token 꺼내기
-        String accessToken = jwtService.extractAccessToken(request).filter(jwtService::isValid).orElse(null);
-
         //access token 이 유효한 경우 : jwt 토큰의 인증정보를 현재 쓰레드의 SecurityContext 에 저장
-        if (StringUtils.hasText(accessToken)) {
-
-            String username = jwtService.extractUsername(accessToken);
-            memberRepository.findByUsername(username).ifPresentOrElse(
-                    (member) -> {
-//                        jwtService.sendAccessToken(response, accessToken);  //TODO 필요한 이유?? 기존의 accessToken과 동일한데 굳이 다시 보낼 필요 없겠다.
-                        log.info("JwtAuthenticationFilter 호출. accessToken={}", accessToken);
-                        jwtService.saveAuthentication(accessToken);  //JWT 의 서명이 유효하기에 Authentication 객체 생성하여 SecurityContext 에 저장
-                    },
-                    () -> {throw new ApiException(MEMBER_NOT_FOUND, "해당 username의 회원이 존재하지 않습니다. username= " + username);
-                        //TODO 어떤 예외를 터뜨려야 하나??
-                    }
-            );
+        //회원 조회 X -> 토큰의 username, 권한 정보로 Authentication 생성 (회원 엔티티가 필요한 곳에서만 조회)
+        if (accessClaims.isPresent()) {
+            log.info("JwtAuthenticationFilter 호출. username={}", accessClaims.get().getSubject());
+            jwtService.saveAuthentication(accessClaims.get());
         }
 
         //access token 이 만료된 경우 : refresh token 유효성 검증
@@ -77,22 +68,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             //refresh token 이 유효한 경우
             if (StringUtils.hasText(refreshToken)) {
-                memberRepository.findByRefreshToken(refreshToken).ifPresentOrElse(
-                        (member) -> {
-                            //1) access token, refresh token 모두 재발급
-                            String newAccessToken = jwtService.createAccessToken(member.getUsername());
-                            String newRefreshToken = jwtService.createRefreshToken();
-                            jwtService.sendAccessAndRefreshToken(response, newAccessToken, newRefreshToken);
-
-                            //2) 새로 발급한 refresh token 을 db 에 저장
-                            memberService.updateRefreshToken(member.getId(), newRefreshToken);
-
-                            //3) JWT 의 서명이 유효하기에 Authentication 객체 생성하여 SecurityContext 에 저장
-                            jwtService.saveAuthentication(newAccessToken);
-                            log.info("new access token={}, refresh token={}", newAccessToken, refreshToken);
-                        },
-                        () -> {throw new ApiException(MEMBER_NOT_FOUND);}
-                );
+                //1) 저장된 refresh token 을 새 토큰으로 교체 (토큰 해시로 조회 -> 회원 테이블 조회, 수정 X)
+                String newRefreshToken = jwtService.createRefreshToken();
+                String username = jwtService.rotateRefreshToken(refreshToken, newRefreshToken)
+                        .orElseThrow(() -> new ApiException(INVALID_TOKEN, "저장된 refresh token 이 아닙니다."));
+
+                //2) access token 재발급 후 응답 헤더로 보내기
+                String newAccessToken = jwtService.createAccessToken(username);
+                jwtService.sendAccessAndRefreshToken(response, newAccessToken, newRefreshToken);
+
+                //3) JWT 의 서명이 유효하기에 Authentication 객체 생성하여 SecurityContext 에 저장
+                jwtService.saveAuthentication(newAccessToken);
+                log.info("access token, refresh token 재발급. username={}", username);
             }
 
             //refresh token 이 유효하지 않은 경우
@@ -129,6 +116,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return false;
         }
 
+        //GET - "/api/member-deletions/{jobId}" (탈퇴 완료 후에는 refresh token 이 없으므로 토큰 없이 조회)
+        if (requestURI.startsWith("/api/member-deletions") && "GET".equalsIgnoreCase(method)) {
+            return false;
+        }
+
         return true;
     }
 
@@ -1,7 +1,10 @@
 package practice.board.jwt;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
@@ -9,20 +12,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import practice.board.domain.Member;
+import org.springframework.util.StringUtils;
+import practice.board.domain.RefreshToken;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
-import practice.board.repository.MemberRepository;
 import practice.board.service.CustomUserDetailsService;
 
+import javax.crypto.SecretKey;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -50,17 +57,35 @@ public class JwtService {
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
 
+    @Value("${jwt.refresh.device-header:Device-Id}")
+    private String deviceHeader;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    private SecretKey signingKey;  //jwt.secret 으로 한번만 생성
+    private JwtParser jwtParser;  //thread-safe 하므로 재사용
+    private VerifiedTokenCache verifiedTokenCache;
+
 
     private static final String TOKEN_TYPE = "token_type";
     private static final String TOKEN_TYPE_VALUE = "refresh";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final String AUTHORITIES_KEY = "auth";
+    public static final String DEFAULT_DEVICE_ID = "default";  //기기 정보 없이 로그인한 경우
 
 
-    private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final CustomUserDetailsService customUserDetailsService;
 
 
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(key));  //jwt.secret 은 base64 로 인코딩된 값
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
+    }
+
     public String createAccessToken(String username) {
 
         Date exp = new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000);
@@ -69,9 +94,11 @@ public class JwtService {
         //access token 생성해서 리턴
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())  //payload "sub": "username"
-                .claim(AUTHORITIES_KEY, userDetails.getAuthorities().toString())  //payload "auth": "USER"
+                .claim(AUTHORITIES_KEY, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.joining(",")))  //payload "auth": "ROLE_USER"
                 .setExpiration(exp)  //payload "exp": 1416239232 (예시)
-                .signWith(SignatureAlgorithm.HS512, key)  //header "alg": "HS512" (HMAC512 알고리즘 사용하며 secret 키로 암호화)
+                .signWith(signingKey, SignatureAlgorithm.HS512)  //header "alg": "HS512" (HMAC512 알고리즘 사용하며 secret 키로 암호화)
                 .compact();
     }
 
@@ -80,26 +107,80 @@ public class JwtService {
         Date exp = new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())  //같은 시각에 발급해도 토큰이 겹치지 않도록 (저장소에서 토큰 해시로 조회)
                 .setExpiration(exp)
                 .claim(TOKEN_TYPE, TOKEN_TYPE_VALUE)  //payload "token_type": "refresh"
-                .signWith(SignatureAlgorithm.HS512, key)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * refresh token 저장 (기기 정보 없는 경우)
+     */
     public void updateRefreshToken(String username, String refreshToken) {
-        memberRepository.findByUsername(username)
-                .ifPresentOrElse(
-                        member -> member.updateRefreshToken(refreshToken),
-                        () -> new ApiException(MEMBER_NOT_FOUND, "회원이 없습니다. username:" + username)
-                );
+        updateRefreshToken(username, DEFAULT_DEVICE_ID, refreshToken);
+    }
+
+    /**
+     * refresh token 저장 - 기기마다 따로 저장, 같은 기기의 이전 토큰은 교체
+     */
+    public void updateRefreshToken(String username, String deviceId, String refreshToken) {
+        refreshTokenStore.save(username, normalizeDeviceId(deviceId), refreshToken, refreshTokenExpiresAt());
+    }
+
+    /**
+     * refresh token 재발급 - 이전 토큰을 새 토큰으로 교체 (회원 조회 X)
+     * @return 토큰 주인의 username, 저장되지 않았거나 이미 교체된 토큰이면 Optional.empty()
+     */
+    public Optional<String> rotateRefreshToken(String oldRefreshToken, String newRefreshToken) {
+        return refreshTokenStore.rotate(oldRefreshToken, newRefreshToken, refreshTokenExpiresAt(), LocalDateTime.now());
     }
 
+    /**
+     * 저장된 refresh token 의 주인 username 조회
+     */
+    public Optional<String> findUsernameByRefreshToken(String refreshToken) {
+        return refreshTokenStore.findUsername(refreshToken, LocalDateTime.now());
+    }
+
+    /**
+     * 회원의 모든 기기의 refresh token 삭제
+     */
     public void destroyRefreshToken(String username) {
-        memberRepository.findByUsername(username)
-                .ifPresentOrElse(
-                        Member::destroyRefreshToken,
-                        () -> new ApiException(MEMBER_NOT_FOUND, "회원이 없습니다. username:" + username)
-                );
+        refreshTokenStore.deleteAllByUsername(username);
+    }
+
+    /**
+     * 만료된 refresh token 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.sweep-interval-ms:600000}")
+    public void removeExpiredRefreshTokens() {
+        int removed = refreshTokenStore.removeExpired(LocalDateTime.now());
+        if (removed > 0) {
+            log.info("만료된 refresh token 삭제. count={}", removed);
+        }
+    }
+
+    private LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now().plusSeconds(refreshTokenValidityInSeconds);
+    }
+
+    /**
+     * 요청 헤더의 기기 id (없으면 기본값)
+     */
+    public String extractDeviceId(HttpServletRequest request) {
+        return normalizeDeviceId(request.getHeader(deviceHeader));
+    }
+
+    /**
+     * 기기 id 는 클라이언트가 보낸 값이므로 공백 제거 후 컬럼 길이(DEVICE_ID_MAX_LENGTH)까지만 사용 (없으면 기본값)
+     */
+    private static String normalizeDeviceId(String deviceId) {
+        return Optional.ofNullable(deviceId)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .map(id -> id.length() > RefreshToken.DEVICE_ID_MAX_LENGTH ? id.substring(0, RefreshToken.DEVICE_ID_MAX_LENGTH) : id)
+                .orElse(DEFAULT_DEVICE_ID);
     }
 
     public void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken) {
@@ -135,7 +216,7 @@ public class JwtService {
 
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch(ExpiredJwtException e) {  //TODO 흐으음..... 다른 방식이 좋을 것 같은데
             return e.getClaims();
         }
@@ -146,7 +227,14 @@ public class JwtService {
      * SecurityContext 에 Authentication 객체 저장
      */
     public void saveAuthentication(String accessToken) {
-        Authentication authentication = getAuthentication(accessToken);
+        saveAuthentication(parseClaims(accessToken));
+    }
+
+    /**
+     * SecurityContext 에 Authentication 객체 저장 (이미 검증한 claims 사용 -> 다시 파싱 X)
+     */
+    public void saveAuthentication(Claims claims) {
+        Authentication authentication = getAuthentication(claims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.info("authentication 생성 후 SecurityContext에 저장");
     }
@@ -155,37 +243,60 @@ public class JwtService {
      * jwt 토큰에서 인증정보 조회해서 Authentication 객체 생성
      */
     public Authentication getAuthentication(String accessToken) {
+        return getAuthentication(parseClaims(accessToken));
+    }
 
-        //토큰 복호화
-        Claims claims = parseClaims(accessToken);
+    /**
+     * claims 의 username(sub), 권한(auth) 으로 Authentication 객체 생성 (db 조회 X)
+     */
+    public Authentication getAuthentication(Claims claims) {
 
         if (claims.get(AUTHORITIES_KEY) == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+            throw new ApiException(INVALID_TOKEN, "권한 정보가 없는 토큰입니다.");
         }
 
-/*
-        //claim 에서 권한 정보 가져오기
-        List<SimpleGrantedAuthority> authorities = Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+        //claim 에서 권한 정보 가져오기 ("ROLE_USER" or 이전 형식인 "[ROLE_USER]")
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(claims.get(AUTHORITIES_KEY).toString()
+                        .replace("[", "")
+                        .replace("]", "")
+                        .split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
                 .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .toList();
 
         //UserDetails 객체를 만들어서 Authentication 리턴
         UserDetails principal = new User(claims.getSubject(), "", authorities);
-*/
 
-        String username = extractUsername(accessToken);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()); //credentials 비워둠!
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities); //credentials 비워둠!
     }
 
     /**
      * 토큰의 유효성 체크
      */
     public boolean isValid(String token) {
+        return parseValidClaims(token).isPresent();
+    }
+
+    /**
+     * 토큰의 유효성 체크 + claims 조회 (한번만 파싱)
+     * 이미 검증한 토큰이면 캐시된 claims 사용 (만료 시각까지)
+     * @return 유효하지 않은 토큰이면 Optional.empty()
+     */
+    public Optional<Claims> parseValidClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        Optional<Claims> cached = verifiedTokenCache.get(token);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+            return Optional.of(claims);
         } catch (ExpiredJwtException e) {
             log.error("만료된 JWT", e);
         } catch(MalformedJwtException e) {
@@ -194,10 +305,17 @@ public class JwtService {
             log.error("지원되지 않는 JWT", e);
         } catch(SignatureException e) {
             log.error("잘못된 JWT 서명", e);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | JwtException e) {
             log.error("잘못된 JWT", e);
         }
-        return false;
+        return Optional.empty();
     }
-}
 
+    /**
+     * 유효한 access token 인 경우 claims 조회 (권한 정보가 없는 refresh token 은 제외)
+     */
+    public Optional<Claims> parseValidAccessClaims(String token) {
+        return parseValidClaims(token)
+                .filter(claims -> claims.get(AUTHORITIES_KEY) != null);
+    }
+}
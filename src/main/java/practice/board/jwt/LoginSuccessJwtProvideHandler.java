@@ -7,7 +7,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
-import practice.board.repository.MemberRepository;
 
 
 @RequiredArgsConstructor
@@ -15,7 +14,6 @@ import practice.board.repository.MemberRepository;
 public class LoginSuccessJwtProvideHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -28,8 +26,8 @@ public class LoginSuccessJwtProvideHandler extends SimpleUrlAuthenticationSucces
         //응답 헤더로 access token, refresh token 보내기
         jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-        //refresh token을 db에 저장
-        memberRepository.findByUsername(username).ifPresent(member -> member.updateRefreshToken(refreshToken));
+        //refresh token 저장 (기기별로 저장)
+        jwtService.updateRefreshToken(username, jwtService.extractDeviceId(request), refreshToken);
 
 
         log.info("로그인 성공. username: {}, accessToken, refreshToken 발급. accessToken: {}, refreshToken: {}", username, accessToken, refreshToken);
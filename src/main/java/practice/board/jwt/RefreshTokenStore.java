@@ -0,0 +1,56 @@
+package practice.board.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * refresh token 저장소 - 토큰 원문은 저장하지 않고 해시로만 조회
+ * jwt.refresh.store 설정으로 구현체 선택 (jpa, memory)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 저장 - 같은 회원, 같은 기기의 이전 토큰은 교체
+     */
+    void save(String username, String deviceId, String refreshToken, LocalDateTime expiresAt);
+
+    /**
+     * 토큰 주인의 username 조회 (만료된 토큰이면 Optional.empty())
+     */
+    Optional<String> findUsername(String refreshToken, LocalDateTime now);
+
+    /**
+     * 이전 토큰을 새 토큰으로 교체하고 토큰 주인의 username 반환
+     * 저장되지 않았거나 만료된 토큰, 이미 교체된 토큰이면 Optional.empty()
+     */
+    Optional<String> rotate(String oldRefreshToken, String newRefreshToken, LocalDateTime expiresAt, LocalDateTime now);
+
+    /**
+     * 회원의 모든 기기의 토큰 삭제
+     */
+    void deleteAllByUsername(String username);
+
+    long countByUsername(String username);
+
+    /**
+     * 만료된 토큰 정리
+     * @return 삭제한 토큰 수
+     */
+    int removeExpired(LocalDateTime now);
+
+    /**
+     * 토큰 해시 - SHA-256 의 앞 16byte (hex 32자리)
+     */
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
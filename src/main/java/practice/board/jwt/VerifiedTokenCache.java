@@ -0,0 +1,86 @@
+package practice.board.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims 캐시
+ * 같은 토큰이 만료 전에 다시 들어오면 파싱, 서명 검증 없이 claims 사용
+ * 토큰 원문 대신 SHA-256 해시를 key 로 사용, 토큰의 exp 가 지나면 사용하지 않음
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 토큰 하나만 제거 (LRU, 새 토큰은 항상 저장)
+ */
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, CachedClaims> cache;  //access-order 이므로 get 도 순서를 바꿈 -> synchronized 로 접근
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
+    }
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Optional<Claims> get(String token) {
+        String key = hash(token);  //해시 계산은 lock 밖에서
+        synchronized (cache) {
+            CachedClaims cached = cache.get(key);
+            if (cached == null) {
+                return Optional.empty();
+            }
+
+            //토큰이 만료된 경우
+            if (cached.expiresAtMillis() <= System.currentTimeMillis()) {
+                cache.remove(key);
+                return Optional.empty();
+            }
+
+            return Optional.of(cached.claims());
+        }
+    }
+
+    /**
+     * exp 가 없는 토큰은 저장하지 않음
+     */
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null || maxSize <= 0) {
+            return;
+        }
+
+        //최대 크기를 넘으면 removeEldestEntry 에서 가장 오래 사용하지 않은 토큰 제거 (만료된 토큰은 사용되지 않으므로 먼저 밀려남)
+        String key = hash(token);
+        synchronized (cache) {
+            cache.put(key, new CachedClaims(claims, expiration.getTime()));
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package practice.board.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practice.board.domain.ArticleSearchCond;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 검색 count 쿼리 결과 캐시 (key : 정리된 ArticleSearchCond)
+ * 게시글 저장/수정/삭제 시 invalidate() 호출 -> 커밋 이후 EXACT 조회에서는 이전 값 사용 X
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 조건 하나만 제거 (LRU)
+ */
+@Component
+public class ArticleCountCache {
+
+    private final Map<ArticleSearchCond, CachedCount> cache;  //access-order 이므로 get 도 순서를 바꿈 -> synchronized 로 접근
+    private final AtomicLong generation = new AtomicLong();  //invalidate() 될 때마다 +1
+
+    private final long exactTtlMillis;
+    private final long estimatedTtlMillis;
+    private final int maxSize;
+
+    public ArticleCountCache(@Value("${article.count-cache.exact-ttl-seconds:30}") long exactTtlSeconds,
+                             @Value("${article.count-cache.estimated-ttl-seconds:300}") long estimatedTtlSeconds,
+                             @Value("${article.count-cache.max-size:1000}") int maxSize) {
+        this.exactTtlMillis = exactTtlSeconds * 1000;
+        this.estimatedTtlMillis = estimatedTtlSeconds * 1000;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ArticleSearchCond, CachedCount> eldest) {
+                return size() > ArticleCountCache.this.maxSize;
+            }
+        };
+    }
+
+
+    /**
+     * 정확한 count - 마지막 invalidate() 이후에 계산된 값만 사용
+     */
+    public long getExact(ArticleSearchCond cond, LongSupplier countQuery) {
+        ArticleSearchCond key = cond.normalize();
+        CachedCount cached = get(key);
+
+        if (cached != null && cached.generation() == generation.get() && !cached.isOlderThan(exactTtlMillis)) {
+            return cached.count();
+        }
+        return load(key, countQuery);
+    }
+
+    /**
+     * 근사 count - invalidate() 여부와 관계없이 유효시간 동안 캐시된 값 사용
+     */
+    public long getEstimated(ArticleSearchCond cond, LongSupplier countQuery) {
+        ArticleSearchCond key = cond.normalize();
+        CachedCount cached = get(key);
+
+        if (cached != null && !cached.isOlderThan(estimatedTtlMillis)) {
+            return cached.count();
+        }
+        return load(key, countQuery);
+    }
+
+    /**
+     * 게시글 저장/수정/삭제 시 호출 - 트랜잭션 안이면 커밋 후 무효화
+     * (커밋 전에 무효화하면 다른 요청이 커밋 전 count 를 새 generation 으로 캐시할 수 있음)
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generation.incrementAndGet();
+            }
+        });
+    }
+
+    private long load(ArticleSearchCond key, LongSupplier countQuery) {
+        long currentGeneration = generation.get();  //count 쿼리 도중 invalidate() 된 경우, 다음 EXACT 조회에서 다시 계산됨
+        long count = countQuery.getAsLong();  //count 쿼리는 lock 밖에서
+
+        synchronized (cache) {
+            cache.put(key, new CachedCount(count, currentGeneration, System.currentTimeMillis()));  //최대 크기를 넘으면 removeEldestEntry 에서 하나 제거
+        }
+
+        return count;
+    }
+
+    private CachedCount get(ArticleSearchCond key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+
+    private record CachedCount(long count, long generation, long createdAtMillis) {
+
+        boolean isOlderThan(long ttlMillis) {
+            return System.currentTimeMillis() - createdAtMillis > ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package practice.board.repository;
+
+/**
+ * 게시글 id 와 첨부파일 경로 (파일 정리 시 id 순서로 나눠서 조회)
+ */
+public record ArticleFilePath(Long id, String filePath) {
+}
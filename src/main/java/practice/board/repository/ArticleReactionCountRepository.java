@@ -0,0 +1,29 @@
+package practice.board.repository;
+
+import java.util.Collection;
+
+/**
+ * 게시글 좋아요/싫어요 수 변경 (엔티티 조회 후 수정 X -> 동시에 요청이 와도 증가분이 사라지지 않음)
+ */
+public interface ArticleReactionCountRepository {
+
+    /**
+     * 좋아요 수 변경
+     */
+    int addLikes(Long id, int delta);
+
+    /**
+     * 싫어요 수 변경
+     */
+    int addDislikes(Long id, int delta);
+
+    /**
+     * 여러 게시글의 좋아요 수 변경 (회원 탈퇴 시 좋아요 삭제)
+     */
+    int addLikesByIdIn(Collection<Long> ids, int delta);
+
+    /**
+     * 여러 게시글의 싫어요 수 변경
+     */
+    int addDislikesByIdIn(Collection<Long> ids, int delta);
+}
@@ -0,0 +1,83 @@
+package practice.board.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practice.board.domain.Article;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 좋아요/싫어요 수는 sql 로 바로 변경 (요청 트랜잭션의 connection 사용)
+ * jpql bulk update 는 2차 캐시의 Article region 전체를 비우므로 사용 X -> 변경한 게시글만 커밋 후 2차 캐시에서 제거
+ */
+@RequiredArgsConstructor
+public class ArticleReactionCountRepositoryImpl implements ArticleReactionCountRepository {
+
+    private static final String UPDATE_LIKES_SQL = "update article set likes = likes + ? where article_id = ?";
+    private static final String UPDATE_DISLIKES_SQL = "update article set dislikes = dislikes + ? where article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public int addLikes(Long id, int delta) {
+        return addLikesByIdIn(List.of(id), delta);
+    }
+
+    @Override
+    public int addDislikes(Long id, int delta) {
+        return addDislikesByIdIn(List.of(id), delta);
+    }
+
+    @Override
+    public int addLikesByIdIn(Collection<Long> ids, int delta) {
+        return update(UPDATE_LIKES_SQL, ids, delta);
+    }
+
+    @Override
+    public int addDislikesByIdIn(Collection<Long> ids, int delta) {
+        return update(UPDATE_DISLIKES_SQL, ids, delta);
+    }
+
+    private int update(String sql, Collection<Long> ids, int delta) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = ids.stream()
+                .map(id -> new Object[]{delta, id})
+                .toList();
+        int updated = Arrays.stream(jdbcTemplate.batchUpdate(sql, batchArgs))
+                .map(count -> Math.max(count, 0))  //SUCCESS_NO_INFO(-2) 인 경우
+                .sum();
+
+        evictAfterCommit(ids);
+        return updated;
+    }
+
+    /**
+     * 2차 캐시에서 제거 - 바로 한 번, 트랜잭션 안이면 커밋 후 한 번 더
+     * (커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 - NONSTRICT_READ_WRITE 의 수정과 같은 방식)
+     */
+    private void evictAfterCommit(Collection<Long> ids) {
+        List<Long> evictIds = List.copyOf(ids);
+        Runnable evict = () -> evictIds.forEach(id -> entityManagerFactory.getCache().evict(Article.class, id));
+        evict.run();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+}
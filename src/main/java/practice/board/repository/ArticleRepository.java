@@ -9,12 +9,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import practice.board.domain.Article;
 import practice.board.domain.ArticleSearchCond;
+import practice.board.domain.Member;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +28,7 @@ import static practice.board.domain.QArticle.*;
 
 //@Repository
 //@Transactional(readOnly = true)
-public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleRepositoryCustom, ArticleReactionCountRepository {
 
 
     @EntityGraph(attributePaths = {"writer"})  //fetch join
@@ -34,6 +38,34 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, Article
     List<Article> findByWriter(Long memberId);
 
 
+    /**
+     * 작성자 확인 (id, writer_id)
+     */
+    @Query("select case when count(a) > 0 then true else false end from Article a where a.id = :id and a.writer.id = :writerId")
+    boolean existsByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    /**
+     * 회원이 작성한 게시글 id - id 순서로 pageable 크기만큼 (회원 탈퇴 시 나눠서 처리)
+     */
+    @Query("select a.id from Article a where a.writer.id = :memberId order by a.id")
+    List<Long> findIdsByWriterId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 작성자 변경 (bulk update) - 회원 탈퇴 시 작성한 글을 탈퇴 회원으로 변경
+     * @return 변경된 게시글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Article a set a.writer = :writer where a.id in :ids")
+    int updateWriterByIdIn(@Param("ids") Collection<Long> ids, @Param("writer") Member writer);
+
+    /**
+     * 첨부파일이 있는 게시글의 파일 경로 - lastId 다음부터 id 순서로 (한번에 전부 조회 X)
+     */
+    @Query("select new practice.board.repository.ArticleFilePath(a.id, a.filePath) from Article a" +
+            " where a.id > :lastId and a.filePath is not null order by a.id")
+    List<ArticleFilePath> findFilePathsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+
 
 
 //    /**
@@ -2,9 +2,17 @@ package practice.board.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import practice.board.domain.Article;
+import org.springframework.data.domain.Slice;
+import practice.board.domain.ArticleCountMode;
+import practice.board.domain.ArticleCursor;
 import practice.board.domain.ArticleSearchCond;
+import practice.board.domain.ArticleSort;
+import practice.board.web.dto.article.ArticleResDto;
 
 public interface ArticleRepositoryCustom {
-    Page<Article> searchArticleByCond(ArticleSearchCond cond, Pageable pageable);
+    Page<ArticleResDto> searchArticleResDtoByCond(ArticleSearchCond cond, Pageable pageable);
+
+    Slice<ArticleResDto> searchArticleResDtoByCond(ArticleSearchCond cond, Pageable pageable, ArticleCountMode countMode);
+
+    Slice<ArticleResDto> searchArticleResDtoByCursor(ArticleSearchCond cond, ArticleSort sort, boolean desc, ArticleCursor after, int size);
 }
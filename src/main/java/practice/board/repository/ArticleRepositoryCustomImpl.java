@@ -1,72 +1,286 @@
 package practice.board.repository;
 
-import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.*;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
-import practice.board.domain.Article;
+import practice.board.domain.ArticleCountMode;
+import practice.board.domain.ArticleCursor;
 import practice.board.domain.ArticleSearchCond;
+import practice.board.domain.ArticleSort;
+import practice.board.repository.search.ArticleSearchIndex;
+import practice.board.repository.search.SearchCandidates;
+import practice.board.web.dto.article.ArticleResDto;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static java.util.stream.Collectors.*;
 import static practice.board.domain.QArticle.*;
+import static practice.board.domain.QComment.*;
+import static practice.board.domain.QMember.*;
 
 @RequiredArgsConstructor
 public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleViewCountBuffer articleViewCountBuffer;
 
+    /**
+     * 검색 결과를 ArticleResDto 로 바로 조회
+     * content 쿼리 1번(writer join) + commentId 쿼리 1번 (+ count 쿼리 - 캐시에 없는 경우에만)
+     */
     @Override
-    public Page<Article> searchArticleByCond(ArticleSearchCond cond, Pageable pageable) {  //TODO queryDsl 페이징 적용 필요
-        //content를 가져오는 쿼리와 count 쿼리 분리하고 PageableExecutionUtils 사용하여 응답
+    public Page<ArticleResDto> searchArticleResDtoByCond(ArticleSearchCond cond, Pageable pageable) {
+        List<ArticleResDto> resultContent = fetchArticleResDto(cond, pageable, pageable.getPageSize());
 
-        String title = cond.getTitle();
-        String content = cond.getContent();
-        String nickname = cond.getNickname();
+        //commentIdList 채우기 - 현재 페이지의 게시글 id 로 한번에 조회 (in 쿼리)
+        fillCommentIdList(resultContent);
 
-        JPAQuery<Article> query = queryFactory.select(article)
-                .from(article)
+        return PageableExecutionUtils.getPage(resultContent, pageable,
+                () -> articleCountCache.getExact(cond, () -> countArticle(cond)));
+    }
+
+    /**
+     * countMode 에 따라 count 계산 방식 결정
+     * EXACT, ESTIMATED : Page 로 응답 / NONE : count 쿼리 없이 Slice(hasNext) 로 응답
+     */
+    @Override
+    public Slice<ArticleResDto> searchArticleResDtoByCond(ArticleSearchCond cond, Pageable pageable, ArticleCountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> searchArticleResDtoByCond(cond, pageable);
+
+            case ESTIMATED -> {
+                List<ArticleResDto> resultContent = fetchArticleResDto(cond, pageable, pageable.getPageSize());
+                fillCommentIdList(resultContent);
+                yield PageableExecutionUtils.getPage(resultContent, pageable,
+                        () -> articleCountCache.getEstimated(cond, () -> countArticle(cond)));
+            }
+
+            case NONE -> {
+                //다음 페이지 존재 여부 확인을 위해 1개 더 조회
+                List<ArticleResDto> resultContent = fetchArticleResDto(cond, pageable, pageable.getPageSize() + 1);
+                boolean hasNext = resultContent.size() > pageable.getPageSize();
+                if (hasNext) {
+                    resultContent = new ArrayList<>(resultContent.subList(0, pageable.getPageSize()));
+                }
+                fillCommentIdList(resultContent);
+                yield new SliceImpl<>(resultContent, pageable, hasNext);
+            }
+        };
+    }
+
+    private List<ArticleResDto> fetchArticleResDto(ArticleSearchCond cond, Pageable pageable, int limit) {
+        Optional<SearchCandidates> candidates = articleSearchIndex.findCandidates(cond);
+        if (hasNoCandidate(candidates)) {
+            return new ArrayList<>();
+        }
+
+        JPAQuery<ArticleResDto> query = selectArticleResDto()
                 .where(
-                        likeTitle(title),
-                        likeContent(content),
-                        likeNickname(nickname)
+                        inCandidates(candidates),
+                        likeTitle(cond.getTitle()),
+                        likeContent(cond.getContent()),
+                        likeWriterNickname(cond.getNickname())
                 )
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .limit(limit);
 
         //정렬 조건 추가
         for (Sort.Order o : pageable.getSort()) {
-            PathBuilder pathBuilder = new PathBuilder(article.getType(), article.getMetadata());
-            query.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC,
-                    pathBuilder.get(o.getProperty())));
+            query.orderBy(sortBy(ArticleSort.from(o.getProperty()), o.isDescending()));
         }
 
-        List<Article> resultContent = query.fetch();
+        List<ArticleResDto> resultContent = query.fetch();
+
+        //아직 db 에 반영되지 않은 조회수 더하기
+        //(커서 기반 검색에서는 커서에 db 의 정렬 기준 값이 들어가야 하므로 더하지 않음)
+        resultContent.forEach(dto ->
+                dto.setViewCount(dto.getViewCount() + (int) articleViewCountBuffer.getPending(dto.getId())));
+
+        return resultContent;
+    }
+
+    private long countArticle(ArticleSearchCond cond) {
+        Optional<SearchCandidates> candidates = articleSearchIndex.findCandidates(cond);
+        if (hasNoCandidate(candidates)) {
+            return 0L;
+        }
 
-        //count 가져오는 쿼리
         JPAQuery<Long> countQuery = queryFactory.select(article.count())
-                .from(article)
+                .from(article);
+
+        //nickname 조건이 있을 때만 writer join
+        if (StringUtils.hasText(cond.getNickname())) {
+            countQuery.leftJoin(article.writer, member);
+        }
+
+        Long count = countQuery
                 .where(
-                        likeTitle(title),
-                        likeContent(content),
-                        likeNickname(nickname)
-                );
+                        inCandidates(candidates),
+                        likeTitle(cond.getTitle()),
+                        likeContent(cond.getContent()),
+                        likeWriterNickname(cond.getNickname())
+                )
+                .fetchOne();
+
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 커서 기반 검색 - offset 대신 (정렬 기준 값, id) 로 seek
+     * 페이지가 깊어져도 앞의 데이터를 읽고 버리지 않음
+     * @param after 마지막으로 조회한 게시글의 커서 (첫 요청인 경우 null)
+     */
+    @Override
+    public Slice<ArticleResDto> searchArticleResDtoByCursor(ArticleSearchCond cond, ArticleSort sort, boolean desc,
+                                                           ArticleCursor after, int size) {
+
+        Optional<SearchCandidates> candidates = articleSearchIndex.findCandidates(cond);
+        if (hasNoCandidate(candidates)) {
+            return new SliceImpl<>(new ArrayList<>(), PageRequest.ofSize(size), false);
+        }
+
+        List<ArticleResDto> resultContent = selectArticleResDto()
+                .where(
+                        inCandidates(candidates),
+                        likeTitle(cond.getTitle()),
+                        likeContent(cond.getContent()),
+                        likeWriterNickname(cond.getNickname()),
+                        seek(after, desc)
+                )
+                .orderBy(sortBy(sort, desc), desc ? article.id.desc() : article.id.asc())  //정렬 기준 값이 같은 경우 id 로 정렬
+                .limit(size + 1)  //다음 데이터 존재 여부 확인을 위해 1개 더 조회
+                .fetch();
+
+        boolean hasNext = resultContent.size() > size;
+        if (hasNext) {
+            resultContent = new ArrayList<>(resultContent.subList(0, size));
+        }
+
+        fillCommentIdList(resultContent);
+
+        return new SliceImpl<>(resultContent, PageRequest.ofSize(size), hasNext);
+    }
+
+    private JPAQuery<ArticleResDto> selectArticleResDto() {
+        return queryFactory
+                .select(Projections.constructor(ArticleResDto.class,
+                        article.id,
+                        member.nickname,
+                        article.title,
+                        article.content,
+                        article.filePath,
+                        article.createdAt,
+                        article.lastModifiedAt,
+                        article.viewCount,
+                        article.likes,
+                        article.dislikes))
+                .from(article)
+                .leftJoin(article.writer, member);
+    }
+
+    private OrderSpecifier<?> sortBy(ArticleSort sort, boolean desc) {
+        ComparableExpressionBase<?> path = switch (sort) {
+            case ID -> article.id;
+            case VIEW_COUNT -> article.viewCount;
+            case LIKES -> article.likes;
+            case DISLIKES -> article.dislikes;
+            case CREATED_DATE -> article.createdAt;
+        };
+
+        return desc ? path.desc() : path.asc();
+    }
+
+    /**
+     * seek 조건 (내림차순 기준) : 정렬 기준 값 < 커서 값 or (정렬 기준 값 = 커서 값 and id < 커서 id)
+     */
+    private BooleanExpression seek(ArticleCursor cursor, boolean desc) {
+        if (cursor == null) {
+            return null;
+        }
+
+        BooleanExpression idSeek = desc ? article.id.lt(cursor.getId()) : article.id.gt(cursor.getId());
+
+        return switch (cursor.getSort()) {
+            case ID -> idSeek;
+            case VIEW_COUNT -> seek(article.viewCount, Integer.parseInt(cursor.getValue()), desc, idSeek);
+            case LIKES -> seek(article.likes, Integer.parseInt(cursor.getValue()), desc, idSeek);
+            case DISLIKES -> seek(article.dislikes, Integer.parseInt(cursor.getValue()), desc, idSeek);
+            case CREATED_DATE -> seek(article.createdAt, LocalDateTime.parse(cursor.getValue()), desc, idSeek);
+        };
+    }
 
-        return PageableExecutionUtils.getPage(resultContent, pageable, countQuery::fetchOne);
-        //getPage() 메서드 내부에서 해당 람다식을 호출하기 전까지 count 쿼리 실행 X - 필요할 때까지 지연! (항상 total count 를 계산하지 않음)
-        //(PageImpl : 쿼리 항상 즉시 두방 나감 - content, count)
+    private BooleanExpression seek(NumberPath<Integer> path, int value, boolean desc, BooleanExpression idSeek) {
+        return (desc ? path.lt(value) : path.gt(value))
+                .or(path.eq(value).and(idSeek));
+    }
+
+    private BooleanExpression seek(DateTimePath<LocalDateTime> path, LocalDateTime value, boolean desc, BooleanExpression idSeek) {
+        return (desc ? path.lt(value) : path.gt(value))
+                .or(path.eq(value).and(idSeek));
+    }
+
+    private void fillCommentIdList(List<ArticleResDto> dtoList) {
+        if (dtoList.isEmpty()) {
+            return;
+        }
+
+        List<Long> articleIds = dtoList.stream()
+                .map(ArticleResDto::getId)
+                .toList();
+
+        //key : articleId, value : 해당 게시글의 commentId 리스트
+        Map<Long, List<Long>> commentIdMap = queryFactory
+                .select(comment.article.id, comment.id)
+                .from(comment)
+                .where(comment.article.id.in(articleIds))
+                .orderBy(comment.id.asc())
+                .fetch()
+                .stream()
+                .collect(groupingBy(tuple -> tuple.get(comment.article.id),
+                        mapping(tuple -> tuple.get(comment.id), toList())));
+
+        dtoList.forEach(dto ->
+                dto.setCommentIdList(commentIdMap.getOrDefault(dto.getId(), new ArrayList<>())));
+    }
+
+    /**
+     * 역색인으로 찾은 후보 안에서만 조회 (색인 사용 불가한 경우 null -> 조건 없음)
+     * 후보는 실제 결과보다 넓을 수 있으므로 contains 조건은 그대로 함께 사용
+     */
+    private BooleanExpression inCandidates(Optional<SearchCandidates> candidates) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        BooleanExpression articleIdIn = candidates.get().articleIds() == null ? null : article.id.in(candidates.get().articleIds());
+        BooleanExpression writerIdIn = candidates.get().memberIds() == null ? null : article.writer.id.in(candidates.get().memberIds());
+
+        if (articleIdIn == null) {
+            return writerIdIn;
+        }
+        return writerIdIn == null ? articleIdIn : articleIdIn.and(writerIdIn);
+    }
 
+    private boolean hasNoCandidate(Optional<SearchCandidates> candidates) {
+        return candidates.map(SearchCandidates::isEmpty).orElse(false);
     }
 
-        private BooleanExpression likeTitle(String title) {
+    private BooleanExpression likeTitle(String title) {
         if (StringUtils.hasText(title)) {
             return article.title.contains(title);
         }
@@ -80,9 +294,10 @@ public class ArticleRepositoryCustomImpl implements ArticleRepositoryCustom {
         return null;
     }
 
-    private BooleanExpression likeNickname(String nickname) {
+    //writer 를 명시적으로 join 한 쿼리에서 사용
+    private BooleanExpression likeWriterNickname(String nickname) {
         if (StringUtils.hasText(nickname)) {
-            return article.writer.nickname.contains(nickname);
+            return member.nickname.contains(nickname);
         }
         return null;
     }
@@ -0,0 +1,140 @@
+package practice.board.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practice.board.web.dto.article.ArticleResDto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 하나 조회 결과(ArticleResDto) 캐시 - LRU, 최대 max-size 개, ttl-seconds 동안 유지
+ * 게시글 수정/삭제, 좋아요/싫어요, 댓글 저장/삭제 시 invalidate() 호출 (트랜잭션 커밋 후 제거)
+ * 조회수는 캐시된 값에 ArticleViewCountBuffer 의 증가분을 더해서 응답 (조회수 증가로 캐시를 비우지 않음)
+ */
+@Slf4j
+@Component
+public class ArticleResDtoCache {
+
+    private final Map<Long, CachedArticle> cache;
+    private final AtomicLong generation = new AtomicLong();  //invalidate() 될 때마다 +1
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ArticleResDtoCache(@Value("${article.dto-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${article.dto-cache.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {  //접근 순서
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedArticle> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * 캐시된 값이 있으면 복사본, 없으면 loader 로 조회 후 캐시
+     * (조회 도중 invalidate() 된 경우 캐시하지 않음 -> 수정 전 값이 남지 않음)
+     */
+    public ArticleResDto get(Long articleId, Supplier<ArticleResDto> loader) {
+        CachedArticle cached;
+        synchronized (cache) {
+            cached = cache.get(articleId);
+        }
+
+        if (cached != null && !cached.isOlderThan(ttlMillis)) {
+            hits.increment();
+            return cached.dto().copy();
+        }
+        misses.increment();
+
+        long currentGeneration = generation.get();
+        ArticleResDto dto = loader.get();
+
+        synchronized (cache) {
+            if (generation.get() == currentGeneration) {
+                cache.put(articleId, new CachedArticle(dto.copy(), System.currentTimeMillis()));
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * 게시글 변경 시 호출 - 트랜잭션 안이면 커밋 후 제거 (커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록)
+     */
+    public void invalidate(Long articleId) {
+        afterCommit(() -> remove(articleId));
+    }
+
+    /**
+     * 조회수가 db 에 반영된 경우 - 캐시된 값의 조회수도 함께 증가 (버퍼의 증가분에서는 빠지므로)
+     * 반영 도중 db 에서 조회한 값은 증가분 포함 여부를 알 수 없으므로 캐시하지 않음
+     */
+    void addViewCounts(Map<Long, Long> deltas) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            deltas.forEach((articleId, delta) -> {
+                CachedArticle cached = cache.get(articleId);
+                if (cached != null) {
+                    cached.dto().setViewCount(cached.dto().getViewCount() + delta.intValue());
+                }
+            });
+        }
+    }
+
+    public Stats getStats() {
+        synchronized (cache) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), cache.size());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void remove(Long articleId) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.remove(articleId);
+        }
+    }
+
+
+    private record CachedArticle(ArticleResDto dto, long createdAtMillis) {
+
+        boolean isOlderThan(long ttlMillis) {
+            return System.currentTimeMillis() - createdAtMillis > ttlMillis;
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @param evictions 최대 크기를 넘어서 제거된 수 (invalidate, ttl 만료 제외)
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
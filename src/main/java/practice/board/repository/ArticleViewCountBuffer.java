@@ -0,0 +1,168 @@
+package practice.board.repository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import practice.board.domain.Article;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회할 때마다 article row 를 update 하지 않고 메모리에 모아뒀다가 주기적으로 한번에 db 에 반영
+ * (인기글 조회 시 같은 row 에 대한 update 경합 X, readOnly 트랜잭션에서 증가분이 사라지는 문제 X)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleViewCountBuffer {
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "update article set view_count = view_count + ? where article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleResDtoCache articleResDtoCache;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();  //아직 db 에 반영되지 않은 증가분
+    private final Map<Long, Long> flushing = new ConcurrentHashMap<>();  //db 에 반영 중인 증가분 (조회 시 함께 더함)
+    private volatile Map<Long, LongAdder> retired = Map.of();  //지난 flush 에서 map 에서 제거한 adder (제거 직전에 들어온 증가분 처리용)
+
+    //pending -> flushing 이동, 반영 후 flushing 에서 제거하는 동안 조회하면 기다림 (증가분이 두 번 더해지거나 빠지지 않도록)
+    private final StampedLock lock = new StampedLock();
+
+
+    /**
+     * 조회수 +1
+     */
+    public void increase(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * db 에 아직 반영되지 않은 조회수
+     */
+    public long getPending(Long articleId) {
+        long stamp = lock.tryOptimisticRead();
+        long count = countPending(articleId);
+        if (lock.validate(stamp)) {
+            return count;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return countPending(articleId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long countPending(Long articleId) {
+        return sum(pending.get(articleId)) + sum(retired.get(articleId)) + flushing.getOrDefault(articleId, 0L);
+    }
+
+
+    /**
+     * 모아둔 증가분을 batch update 로 db 에 반영
+     * 1. 증가분을 pending 에서 flushing 으로 이동 (조회 시 합계는 그대로)
+     * 2. db 에 반영되면 바로 flushing 에서 제거, 실패하면 pending 으로 되돌림 (다음 flush 때 재시도)
+     */
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = moveToFlushing();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, batchArgs);
+        } catch (DataAccessException e) {
+            log.error("[ArticleViewCountBuffer.flush() 예외 발생] 다음 flush 때 재시도. articles={}", deltas.size(), e);
+            write(() -> deltas.forEach((id, delta) -> {
+                pending.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+                removeFlushing(id, delta);
+            }));
+            return;
+        }
+
+        write(() -> {
+            deltas.forEach(this::removeFlushing);
+            articleResDtoCache.addViewCounts(deltas);  //캐시된 게시글의 조회수도 증가 (캐시를 비우지 않음)
+        });
+        deltas.keySet().forEach(id -> entityManagerFactory.getCache().evict(Article.class, id));  //sql 로 변경 -> 2차 캐시에서 직접 제거
+        log.debug("조회수 db 반영 완료. articles={}", deltas.size());
+    }
+
+    /**
+     * pending (+ 지난 flush 때 제거한 adder 에 늦게 들어온 증가분) -> flushing
+     * adder 는 sumThenReset 대신 읽은 만큼만 빼서, 이동 중에 들어온 증가분도 잃어버리지 않음
+     * @return 이번에 db 에 반영할 증가분
+     */
+    private Map<Long, Long> moveToFlushing() {
+        Map<Long, Long> deltas = new HashMap<>();
+        write(() -> {
+            retired.forEach((id, adder) -> moveToFlushing(deltas, id, adder));
+
+            Map<Long, LongAdder> removed = new HashMap<>();
+            for (Long id : pending.keySet()) {
+                LongAdder adder = pending.remove(id);
+                if (adder != null) {
+                    moveToFlushing(deltas, id, adder);
+                    removed.put(id, adder);
+                }
+            }
+            retired = removed;
+        });
+        return deltas;
+    }
+
+    private void moveToFlushing(Map<Long, Long> deltas, Long id, LongAdder adder) {
+        long delta = adder.sum();
+        if (delta == 0) {
+            return;
+        }
+        adder.add(-delta);
+        deltas.merge(id, delta, Long::sum);
+        flushing.merge(id, delta, Long::sum);
+    }
+
+    private void removeFlushing(Long id, long delta) {
+        flushing.computeIfPresent(id, (key, value) -> value - delta == 0 ? null : value - delta);
+    }
+
+    private void write(Runnable task) {
+        long stamp = lock.writeLock();
+        try {
+            task.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 애플리케이션 종료 전 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush();  //retired 에 남은 증가분까지 반영
+    }
+
+}
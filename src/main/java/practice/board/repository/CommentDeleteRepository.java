@@ -0,0 +1,15 @@
+package practice.board.repository;
+
+import java.util.List;
+
+/**
+ * 부모-자식 관계인 댓글들을 한번에 db 에서 삭제
+ */
+public interface CommentDeleteRepository {
+
+    /**
+     * 주어진 순서대로 삭제 (자식댓글이 부모댓글보다 먼저 오도록 정렬해서 전달)
+     * @return 삭제된 댓글 수
+     */
+    int deleteAllChildrenFirst(List<Long> ids);
+}
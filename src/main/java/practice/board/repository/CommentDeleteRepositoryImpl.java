@@ -0,0 +1,40 @@
+package practice.board.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 문장으로 여러 댓글을 삭제하면 row 순서에 따라 부모댓글이 먼저 삭제되어 parent_id fk 위반이 될 수 있음
+ * -> 자식댓글부터 삭제 sql 을 batch 로 한번에 전송 (요청 트랜잭션의 connection 사용)
+ */
+@RequiredArgsConstructor
+public class CommentDeleteRepositoryImpl implements CommentDeleteRepository {
+
+    private static final String DELETE_SQL = "delete from comment where comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager em;
+
+    @Override
+    public int deleteAllChildrenFirst(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        em.flush();  //삭제 전에 변경 내용 반영
+
+        List<Object[]> batchArgs = ids.stream()
+                .map(id -> new Object[]{id})
+                .toList();
+        int deleted = Arrays.stream(jdbcTemplate.batchUpdate(DELETE_SQL, batchArgs))
+                .map(count -> Math.max(count, 0))  //SUCCESS_NO_INFO(-2) 인 경우
+                .sum();
+
+        em.clear();  //삭제된 댓글이 영속성 컨텍스트에 남지 않도록
+        return deleted;
+    }
+}
@@ -0,0 +1,7 @@
+package practice.board.repository;
+
+/**
+ * 댓글 삭제 시 필요한 정보만 조회 (화면상 삭제 여부, 자식댓글 수)
+ */
+public record CommentNode(Long id, boolean removed, long childCount) {
+}
@@ -5,13 +5,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import practice.board.domain.Comment;
+import practice.board.domain.Member;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentDeleteRepository, CommentTreeRepository {
 
     Page<Comment> findAll(Pageable pageable);
 
@@ -20,5 +25,83 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByWriter(Long memberId);  //TODO 요거 맞나
 
+    /**
+     * 작성자 확인 (id, writer_id)
+     */
+    @Query("select case when count(c) > 0 then true else false end from Comment c where c.id = :id and c.writer.id = :writerId")
+    boolean existsByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    /**
+     * 게시글의 댓글 전체 조회 (작성자 fetch join) - 댓글 트리 생성용
+     */
+    @Query("select c from Comment c left join fetch c.writer" +
+            " where c.article.id = :articleId" +
+            " order by c.parent.id asc nulls first, c.id asc")
+    List<Comment> findAllWithWriterByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 게시글의 최상위 댓글 id - id 순으로 페이징 (댓글 트리 조회 시 하위 댓글은 findTreesByRootIds() 로 조회)
+     */
+    @Query(value = "select c.id from Comment c where c.article.id = :articleId and c.parent is null order by c.id",
+            countQuery = "select count(c) from Comment c where c.article.id = :articleId and c.parent is null")
+    Page<Long> findRootIdsByArticleId(@Param("articleId") Long articleId, Pageable pageable);
+
+    /**
+     * 댓글들의 화면상 삭제 여부, 자식댓글 수 조회 - 댓글 삭제 시 조상 댓글 정리용
+     */
+    @Query("select new practice.board.repository.CommentNode(c.id, c.isRemoved," +
+            " (select count(child) from Comment child where child.parent.id = c.id))" +
+            " from Comment c where c.id in :ids")
+    List<CommentNode> findNodesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글의 댓글 전체 db 에서 삭제 (게시글 삭제 시 사용)
+     * 게시글의 댓글은 모두 삭제하므로 parent 참조를 먼저 끊고 한번에 삭제 (삭제 순서와 상관없이 parent_id fk 위반 X)
+     */
+    default int deleteAllByArticleId(Long articleId) {
+        clearParentByArticleId(articleId);
+        return deleteAllInArticle(articleId);
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.parent = null where c.article.id = :articleId")
+    int clearParentByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Comment c where c.article.id = :articleId")
+    int deleteAllInArticle(@Param("articleId") Long articleId);
+
+    /**
+     * 회원이 작성한 댓글 id - id 순서로 pageable 크기만큼 (회원 탈퇴 시 나눠서 처리)
+     */
+    @Query("select c.id from Comment c where c.writer.id = :memberId order by c.id")
+    List<Long> findIdsByWriterId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 작성자 변경 (bulk update) - 회원 탈퇴 시 작성한 댓글을 탈퇴 회원으로 변경
+     * @return 변경된 댓글 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.writer = :writer where c.id in :ids")
+    int updateWriterByIdIn(@Param("ids") Collection<Long> ids, @Param("writer") Member writer);
+
+    /**
+     * 해당 댓글 + 모든 하위 댓글 조회 (materialized path 사용 -> 쿼리 한번)
+     * @param segment Comment.toPathSegment(id)
+     */
+    @Query("select c from Comment c left join fetch c.writer" +
+            " join Comment root on root.id = :id" +
+            " where c.id = root.id or c.path like concat(root.path, :segment, '/%')")
+    List<Comment> findSubtree(@Param("id") Long id, @Param("segment") String segment);
+
+    /**
+     * 해당 댓글 + 모든 하위 댓글 화면상 삭제 (bulk update)
+     * @param threadPath 해당 댓글의 Comment.getThreadPath()
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Comment c set c.isRemoved = true, c.content = :content" +
+            " where c.id = :id or c.path like concat(:threadPath, '%')")
+    int softDeleteSubtree(@Param("id") Long id, @Param("threadPath") String threadPath, @Param("content") String content);
+
 
 }
@@ -0,0 +1,18 @@
+package practice.board.repository;
+
+import practice.board.domain.Comment;
+
+import java.util.List;
+
+/**
+ * 댓글 트리 조회 - 최상위 댓글 페이지의 하위 댓글만 조회
+ */
+public interface CommentTreeRepository {
+
+    /**
+     * 최상위 댓글들 + 각 최상위 댓글의 하위 댓글 조회 (작성자 fetch join, (parent, id) 순)
+     * 하위 댓글은 path like '/{최상위 댓글 id}/%' 로 조회 (path 인덱스 사용)
+     * @param maxDepth 이 depth 의 childCount 를 셀 수 있도록 maxDepth + 1 까지 조회 (null 이면 제한 없음)
+     */
+    List<Comment> findTreesByRootIds(List<Long> rootIds, Integer maxDepth);
+}
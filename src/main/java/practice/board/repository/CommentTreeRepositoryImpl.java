@@ -0,0 +1,47 @@
+package practice.board.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import practice.board.domain.Comment;
+
+import java.util.List;
+
+import static practice.board.domain.QComment.*;
+import static practice.board.domain.QMember.*;
+
+@RequiredArgsConstructor
+public class CommentTreeRepositoryImpl implements CommentTreeRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Comment> findTreesByRootIds(List<Long> rootIds, Integer maxDepth) {
+        if (rootIds.isEmpty()) {
+            return List.of();
+        }
+
+        //최상위 댓글 + path 가 최상위 댓글의 threadPath 로 시작하는 댓글
+        BooleanBuilder inTrees = new BooleanBuilder(comment.id.in(rootIds));
+        rootIds.forEach(rootId -> inTrees.or(comment.path.startsWith(rootThreadPath(rootId))));
+
+        return queryFactory
+                .selectFrom(comment)
+                .leftJoin(comment.writer, member).fetchJoin()
+                .where(inTrees, depthLoe(maxDepth))
+                .orderBy(comment.parent.id.asc().nullsFirst(), comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 최상위 댓글의 Comment.getThreadPath() (최상위 댓글의 path 는 "/")
+     */
+    private static String rootThreadPath(Long rootId) {
+        return Comment.PATH_SEPARATOR + Comment.toPathSegment(rootId) + Comment.PATH_SEPARATOR;
+    }
+
+    private static BooleanExpression depthLoe(Integer maxDepth) {
+        return maxDepth != null ? comment.depth.loe(maxDepth + 1) : null;
+    }
+}
@@ -3,12 +3,17 @@ package practice.board.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
 import org.springframework.stereotype.Repository;
 import practice.board.domain.Article;
 import practice.board.domain.LikeArticle;
 import practice.board.domain.Member;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -41,7 +46,67 @@ public class LikeArticleRepository {
         em.remove(likeArticle);
     }
 
+    /**
+     * 좋아요 한 적 없는 경우에만 추가 (조회 후 저장 X -> 한 쿼리로 처리)
+     * @return 추가된 row 수 (이미 좋아요 했거나 게시글이 없으면 0)
+     */
+    public int insertIfAbsent(Long articleId, Long memberId) {
+        return em.createNativeQuery("insert into like_article (article_id, member_id)" +
+                        " select a.article_id, :memberId from article a" +
+                        " where a.article_id = :articleId" +
+                        " and not exists (select 1 from like_article l where l.article_id = :articleId and l.member_id = :memberId)")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(LikeArticle.class)  //이 테이블만 변경됨을 알림 (없으면 2차 캐시 전체가 비워짐)
+                .setParameter("articleId", articleId)
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
 
+    /**
+     * @return 삭제된 row 수 (좋아요 한 적 없으면 0)
+     */
+    public int deleteByArticleIdAndMemberId(Long articleId, Long memberId) {
+        return em.createQuery("delete from LikeArticle l where l.article.id = :articleId and l.member.id = :memberId")
+                .setParameter("articleId", articleId)
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
 
+    /**
+     * 회원이 좋아요 한 게시글 id (articleIds 중에서)
+     */
+    public Set<Long> findArticleIdsByMemberId(Long memberId, Collection<Long> articleIds) {
+        List<Long> result = em.createQuery("select l.article.id from LikeArticle l where l.member.id = :memberId and l.article.id in :articleIds", Long.class)
+                .setParameter("memberId", memberId)
+                .setParameter("articleIds", articleIds)
+                .getResultList();
 
+        return new HashSet<>(result);
+    }
+
+    public long countByArticleId(Long articleId) {
+        return em.createQuery("select count(l) from LikeArticle l where l.article.id = :articleId", Long.class)
+                .setParameter("articleId", articleId)
+                .getSingleResult();
+    }
+
+    /**
+     * 회원의 좋아요 - id 순서로 limit 개 (회원 탈퇴 시 나눠서 삭제)
+     */
+    public List<ReactionRef> findByMemberId(Long memberId, int limit) {
+        return em.createQuery("select new practice.board.repository.ReactionRef(l.id, l.article.id)" +
+                        " from LikeArticle l where l.member.id = :memberId order by l.id", ReactionRef.class)
+                .setParameter("memberId", memberId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * @return 삭제된 row 수
+     */
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        return em.createQuery("delete from LikeArticle l where l.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
 }
@@ -0,0 +1,11 @@
+package practice.board.repository;
+
+/**
+ * 회원가입 시 이미 사용 중인 값 (username, email, nickname)
+ */
+public record MemberDuplication(boolean username, boolean email, boolean nickname) {
+
+    public boolean exists() {
+        return username || email || nickname;
+    }
+}
@@ -1,6 +1,7 @@
 package practice.board.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,21 +20,24 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
     Page<Member> findAll(Pageable pageable);
 
     Optional<Member> findByEmail(String email);
 
-    Optional<Member> findByUsername(String username);
-
     Optional<Member> findByNickname(String nickname);
 
-    Optional<Member> findByRefreshToken(String refreshToken);
-
     @Query("select m from Member m join fetch m.articleList join fetch m.commentList where m.id = :id")
     Optional<Member> findMemberJoinFetchArticleAndComment(@Param("id") Long id);
 
+    /**
+     * 조회 + 쓰기 lock (회원 탈퇴 시 삭제 전까지 이 회원을 참조하는 row 추가 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Member m where m.id = :id")
+    Optional<Member> findByIdForUpdate(@Param("id") Long id);
+
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
 
@@ -0,0 +1,18 @@
+package practice.board.repository;
+
+import practice.board.domain.Member;
+
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+
+    /**
+     * username(@NaturalId) 으로 조회 - 영속성 컨텍스트, natural-id 캐시, 2차 캐시 순서로 확인 후 없을 때만 쿼리
+     */
+    Optional<Member> findByUsername(String username);
+
+    /**
+     * username, email, nickname 중복 여부를 쿼리 한번으로 확인
+     */
+    MemberDuplication findDuplication(String username, String email, String nickname);
+}
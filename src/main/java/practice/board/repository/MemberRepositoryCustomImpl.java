@@ -0,0 +1,41 @@
+package practice.board.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import practice.board.domain.Member;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public Optional<Member> findByUsername(String username) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(username);
+    }
+
+    @Override
+    public MemberDuplication findDuplication(String username, String email, String nickname) {
+        //unique 인덱스 3개 -> 많아야 3 row 조회
+        Object[] counts = em.createQuery("select" +
+                        " count(case when m.username = :username then 1 end)," +
+                        " count(case when m.email = :email then 1 end)," +
+                        " count(case when m.nickname = :nickname then 1 end)" +
+                        " from Member m" +
+                        " where m.username = :username or m.email = :email or m.nickname = :nickname", Object[].class)
+                .setParameter("username", username)
+                .setParameter("email", email)
+                .setParameter("nickname", nickname)
+                .getSingleResult();
+
+        return new MemberDuplication(
+                ((Number) counts[0]).longValue() > 0,
+                ((Number) counts[1]).longValue() > 0,
+                ((Number) counts[2]).longValue() > 0);
+    }
+}
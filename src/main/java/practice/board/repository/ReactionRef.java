@@ -0,0 +1,7 @@
+package practice.board.repository;
+
+/**
+ * 좋아요/싫어요 id 와 게시글 id (회원 탈퇴 시 삭제 후 게시글의 좋아요/싫어요 수 변경)
+ */
+public record ReactionRef(Long id, Long articleId) {
+}
@@ -0,0 +1,48 @@
+package practice.board.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import practice.board.domain.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    long countByUsername(String username);
+
+    /**
+     * 같은 기기에서 다시 로그인한 경우 토큰 교체
+     * @return 수정된 row 수 (0 이면 해당 기기의 토큰 없음)
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.tokenHash = :tokenHash, r.expiresAt = :expiresAt " +
+            "where r.username = :username and r.deviceId = :deviceId")
+    int replace(@Param("username") String username,
+                @Param("deviceId") String deviceId,
+                @Param("tokenHash") String tokenHash,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 토큰 교체 - 이전 토큰이 아직 유효한 경우에만 (동시에 같은 토큰으로 재발급하면 하나만 성공)
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.tokenHash = :newHash, r.expiresAt = :expiresAt " +
+            "where r.tokenHash = :oldHash and r.expiresAt > :now")
+    int rotate(@Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.username = :username")
+    int deleteAllByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
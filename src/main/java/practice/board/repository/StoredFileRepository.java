@@ -0,0 +1,48 @@
+package practice.board.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import practice.board.domain.StoredFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    /**
+     * 참조 수 +1
+     * @return 수정된 row 수 (처음 저장하는 파일이면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredFile f set f.refCount = f.refCount + 1, f.releasedAt = null where f.filePath = :filePath")
+    int increaseRefCount(@Param("filePath") String filePath);
+
+    /**
+     * 참조 수 -1
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredFile f set f.refCount = f.refCount - 1, f.releasedAt = :now where f.filePath = :filePath and f.refCount > 0")
+    int decreaseRefCount(@Param("filePath") String filePath, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조가 없는 파일 - 마지막 참조 해제 후 cutoff 이전인 것만
+     */
+    @Query("select f.filePath from StoredFile f where f.refCount = 0 and f.releasedAt < :cutoff order by f.releasedAt")
+    List<String> findOrphanPaths(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 그 사이에 다시 참조되지 않은 경우에만 삭제
+     */
+    @Modifying
+    @Query("delete from StoredFile f where f.filePath = :filePath and f.refCount = 0")
+    int deleteIfOrphan(@Param("filePath") String filePath);
+
+    /**
+     * 저장된 파일 경로 - lastFilePath 다음부터 경로 순서로
+     */
+    @Query("select f.filePath from StoredFile f where f.filePath > :lastFilePath order by f.filePath")
+    List<String> findFilePathsAfter(@Param("lastFilePath") String lastFilePath, Pageable pageable);
+}
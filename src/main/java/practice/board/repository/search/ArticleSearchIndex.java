@@ -0,0 +1,282 @@
+package practice.board.repository.search;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import practice.board.domain.ArticleSearchCond;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static practice.board.domain.QArticle.*;
+import static practice.board.domain.QMember.*;
+
+/**
+ * 게시글 검색용 역색인 (title, content, 작성자 nickname)
+ * LIKE '%검색어%' 로 전체 테이블을 읽는 대신 후보 id 를 먼저 찾고, DB 는 후보 안에서만 조회
+ *
+ * - 색인은 후보를 넓게 잡는 방향으로만 틀릴 수 있음 (추가는 즉시, 삭제는 커밋 후 반영)
+ *   -> 실제 포함 여부는 DB 의 contains 조건으로 한번 더 확인하므로 검색 결과는 항상 정확함
+ * - 애플리케이션 시작 시 전체 색인 생성, 이후 저장/수정은 ArticleSearchIndexListener 에서 (서비스를 거치지 않은 저장도) 추가,
+ *   더 이상 없는 토큰 제거, 삭제는 서비스에서 커밋 후 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Value("${article.search-index.enabled:true}")
+    private volatile boolean enabled;
+
+    @Value("${article.search-index.max-candidates:5000}")
+    private int maxCandidates;  //후보가 이보다 많으면 색인으로 범위를 좁히지 않음 (in 절이 너무 커지므로)
+
+    private final InvertedIndex titleIndex = new InvertedIndex();  //key : articleId
+    private final InvertedIndex contentIndex = new InvertedIndex();  //key : articleId
+    private final InvertedIndex nicknameIndex = new InvertedIndex();  //key : memberId
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;  //전체 색인 생성 전에는 사용 X
+
+
+    /**
+     * 전체 색인 생성 - id 순서로 나눠서 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int articleCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<Tuple> rows = queryFactory
+                    .select(article.id, article.title, article.content)
+                    .from(article)
+                    .where(article.id.gt(lastId))
+                    .orderBy(article.id.asc())
+                    .limit(BUILD_BATCH_SIZE)
+                    .fetch();
+
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            write(() -> rows.forEach(row -> {
+                Integer id = toIndexId(row.get(article.id));
+                if (id != null) {
+                    titleIndex.add(id, row.get(article.title));
+                    contentIndex.add(id, row.get(article.content));
+                }
+            }));
+
+            articleCount += rows.size();
+            lastId = rows.get(rows.size() - 1).get(article.id);
+        }
+
+        List<Tuple> members = queryFactory
+                .select(member.id, member.nickname)
+                .from(member)
+                .fetch();
+        write(() -> members.forEach(row -> {
+            Integer id = toIndexId(row.get(member.id));
+            if (id != null) {
+                nicknameIndex.add(id, row.get(member.nickname));
+            }
+        }));
+
+        ready = true;
+        log.info("게시글 검색 색인 생성 완료. articles={}, members={}, {}ms", articleCount, members.size(), System.currentTimeMillis() - start);
+    }
+
+
+    //== 게시글 색인 반영 ==//
+    public void addArticle(Long articleId, String title, String content) {
+        Integer id = toIndexId(articleId);
+        if (id == null) {
+            return;
+        }
+        write(() -> {
+            titleIndex.add(id, title);
+            contentIndex.add(id, content);
+        });
+    }
+
+    /**
+     * 새 토큰은 즉시 추가, 더 이상 없는 토큰은 커밋 후 제거 (롤백 시 이전 내용으로도 계속 검색되도록)
+     * flush 전에 같은 트랜잭션에서 검색해도 새 내용으로 검색되도록 ArticleSearchIndexListener 와 별개로 바로 추가
+     */
+    public void updateArticle(Long articleId, String oldTitle, String oldContent, String newTitle, String newContent) {
+        Integer id = toIndexId(articleId);
+        if (id == null) {
+            return;
+        }
+
+        Set<String> removedTitleTokens = difference(NgramTokenizer.tokenize(oldTitle), NgramTokenizer.tokenize(newTitle));
+        Set<String> removedContentTokens = difference(NgramTokenizer.tokenize(oldContent), NgramTokenizer.tokenize(newContent));
+
+        write(() -> {
+            titleIndex.add(id, newTitle);
+            contentIndex.add(id, newContent);
+        });
+        afterCommit(() -> write(() -> {
+            titleIndex.remove(id, removedTitleTokens);
+            contentIndex.remove(id, removedContentTokens);
+        }));
+    }
+
+    public void removeArticle(Long articleId, String title, String content) {
+        Integer id = toIndexId(articleId);
+        if (id == null) {
+            return;
+        }
+        afterCommit(() -> write(() -> {
+            titleIndex.remove(id, title);
+            contentIndex.remove(id, content);
+        }));
+    }
+
+
+    //== 작성자 nickname 색인 반영 ==//
+    public void addMember(Long memberId, String nickname) {
+        Integer id = toIndexId(memberId);
+        if (id == null) {
+            return;
+        }
+        write(() -> nicknameIndex.add(id, nickname));
+    }
+
+    public void updateMember(Long memberId, String oldNickname, String newNickname) {
+        Integer id = toIndexId(memberId);
+        if (id == null) {
+            return;
+        }
+
+        Set<String> removedTokens = difference(NgramTokenizer.tokenize(oldNickname), NgramTokenizer.tokenize(newNickname));
+        write(() -> nicknameIndex.add(id, newNickname));
+        afterCommit(() -> write(() -> nicknameIndex.remove(id, removedTokens)));
+    }
+
+    public void removeMember(Long memberId, String nickname) {
+        Integer id = toIndexId(memberId);
+        if (id == null) {
+            return;
+        }
+        afterCommit(() -> write(() -> nicknameIndex.remove(id, nickname)));
+    }
+
+
+    /**
+     * 검색 조건 -> 후보 id
+     * @return 색인을 사용할 수 없거나 (생성 전, 조건 없음) 후보가 너무 많은 경우 Optional.empty() -> 기존 LIKE 검색
+     */
+    public Optional<SearchCandidates> findCandidates(ArticleSearchCond cond) {
+        if (!enabled || !ready) {
+            return Optional.empty();
+        }
+
+        boolean hasArticleCond = StringUtils.hasText(cond.getTitle()) || StringUtils.hasText(cond.getContent());
+        boolean hasNicknameCond = StringUtils.hasText(cond.getNickname());
+        if (!hasArticleCond && !hasNicknameCond) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Long> articleIds = null;
+            if (hasArticleCond) {
+                int[] titleIds = StringUtils.hasText(cond.getTitle()) ? titleIndex.search(cond.getTitle()) : null;
+                int[] contentIds = StringUtils.hasText(cond.getContent()) ? contentIndex.search(cond.getContent()) : null;
+                articleIds = limit(titleIds == null ? contentIds
+                        : contentIds == null ? titleIds
+                        : InvertedIndex.intersect(titleIds, contentIds));
+            }
+
+            List<Long> memberIds = hasNicknameCond ? limit(nicknameIndex.search(cond.getNickname())) : null;
+
+            if (articleIds == null && memberIds == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new SearchCandidates(articleIds, memberIds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * 후보가 maxCandidates 보다 많으면 null (범위 제한 X)
+     */
+    private List<Long> limit(int[] ids) {
+        if (ids == null || ids.length > maxCandidates) {
+            return null;
+        }
+
+        List<Long> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add((long) id);
+        }
+        return result;
+    }
+
+    /**
+     * 색인은 int 로 저장 - int 범위를 넘는 id 가 생기면 색인 사용 중단 (기존 LIKE 검색)
+     */
+    private Integer toIndexId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        if (id > Integer.MAX_VALUE) {
+            if (ready) {
+                log.warn("int 범위를 넘는 id 발생 -> 게시글 검색 색인 사용 중단. id={}", id);
+            }
+            ready = false;
+            enabled = false;
+            return null;
+        }
+        return id.intValue();
+    }
+
+    private static Set<String> difference(Set<String> a, Set<String> b) {
+        Set<String> result = new HashSet<>(a);
+        result.removeAll(b);
+        return result;
+    }
+
+    private void write(Runnable task) {
+        lock.writeLock().lock();
+        try {
+            task.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
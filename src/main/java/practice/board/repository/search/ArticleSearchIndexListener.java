@@ -0,0 +1,32 @@
+package practice.board.repository.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+
+/**
+ * Article, Member 가 저장/수정되면 검색 색인에 추가 (서비스를 거치지 않고 저장한 경우도 색인에 반영)
+ * 더 이상 없는 토큰 제거, 삭제는 이전 값을 알고 있는 서비스에서 처리 (남아 있어도 후보만 넓어짐)
+ *
+ * EntityManagerFactory 생성 중에 만들어지므로 색인(JPAQueryFactory -> EntityManager 사용)은 처음 사용할 때 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndexListener {
+
+    private final ObjectProvider<ArticleSearchIndex> articleSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void index(Object entity) {
+        if (entity instanceof Article article) {
+            articleSearchIndex.getObject().addArticle(article.getId(), article.getTitle(), article.getContent());
+        } else if (entity instanceof Member member) {
+            articleSearchIndex.getObject().addMember(member.getId(), member.getNickname());
+        }
+    }
+}
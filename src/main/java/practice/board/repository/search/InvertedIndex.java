@@ -0,0 +1,87 @@
+package practice.board.repository.search;
+
+import java.util.*;
+
+/**
+ * 토큰 -> PostingList 역색인 (필드 하나당 하나)
+ * thread-safe 하지 않음 - ArticleSearchIndex 에서 lock 으로 보호
+ */
+final class InvertedIndex {
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+
+    void add(int id, String text) {
+        add(id, NgramTokenizer.tokenize(text));
+    }
+
+    void add(int id, Set<String> tokens) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> new PostingList()).add(id);
+        }
+    }
+
+    void remove(int id, String text) {
+        remove(id, NgramTokenizer.tokenize(text));
+    }
+
+    void remove(int id, Set<String> tokens) {
+        for (String token : tokens) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {
+                continue;
+            }
+
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 id (오름차순)
+     * @return 검색어가 없으면 null
+     */
+    int[] search(String query) {
+        Set<String> tokens = NgramTokenizer.queryTokens(query);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        List<PostingList> lists = new ArrayList<>();
+        for (String token : tokens) {
+            PostingList postingList = postings.get(token);
+            if (postingList == null) {  //포함하는 문서가 없는 토큰
+                return new int[0];
+            }
+            lists.add(postingList);
+        }
+
+        //작은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).toArray());
+        }
+        return result;
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
@@ -0,0 +1,62 @@
+package practice.board.repository.search;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * n-gram 토크나이저 (unigram + bigram)
+ * 한글은 띄어쓰기/조사 때문에 단어 단위로 자르면 부분 검색(contains)이 안 되기 때문에 글자 단위 n-gram 사용
+ * ex) "게시글" -> [게, 시, 글, 게시, 시글]
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인할 텍스트 -> 토큰 (모든 unigram, bigram)
+     */
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String normalized = normalize(text);
+        Set<String> tokens = new HashSet<>();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 -> 토큰 (한 글자면 unigram, 두 글자 이상이면 bigram 만 사용)
+     * 검색어의 모든 bigram 을 포함하는 문서 = 후보 (실제 포함 여부는 DB 에서 한번 더 확인)
+     */
+    static Set<String> queryTokens(String query) {
+        if (query == null || query.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String normalized = normalize(query);
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package practice.board.repository.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 토큰을 포함하는 문서 id 목록
+ * 오름차순 id 의 차이(delta)를 varint 로 인코딩한 byte 배열에 저장 -> Long/Integer 객체 대비 메모리 사용량 감소
+ * 새 게시글은 항상 가장 큰 id 를 가지므로 add() 는 대부분 뒤에 붙이기만 하면 됨
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;  //data 에서 사용 중인 byte 수
+    private int count;  //id 개수
+    private int last;  //가장 큰 id (id 는 1 이상)
+
+
+    void add(int id) {
+        if (id <= 0) {
+            return;
+        }
+
+        //가장 큰 id 인 경우 : 뒤에 붙이기
+        if (id > last) {
+            writeVarInt(id - last);
+            last = id;
+            count++;
+            return;
+        }
+
+        int[] ids = toArray();
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {  //이미 있는 id
+            return;
+        }
+
+        int insertAt = -(index + 1);
+        int[] newIds = new int[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insertAt);
+        newIds[insertAt] = id;
+        System.arraycopy(ids, insertAt, newIds, insertAt + 1, ids.length - insertAt);
+        rebuild(newIds);
+    }
+
+    void remove(int id) {
+        if (id <= 0 || id > last) {
+            return;
+        }
+
+        int[] ids = toArray();
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return;
+        }
+
+        int[] newIds = new int[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, index);
+        System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+        rebuild(newIds);
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 오름차순 id 배열로 디코딩
+     */
+    int[] toArray() {
+        int[] ids = new int[count];
+        int pos = 0;
+        int value = 0;
+
+        for (int i = 0; i < count; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            value += delta;
+            ids[i] = value;
+        }
+        return ids;
+    }
+
+
+    private void rebuild(int[] ids) {
+        data = new byte[Math.max(8, ids.length * 2)];
+        length = 0;
+        count = 0;
+        last = 0;
+        for (int id : ids) {
+            writeVarInt(id - last);
+            last = id;
+            count++;
+        }
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,18 @@
+package practice.board.repository.search;
+
+import java.util.List;
+
+/**
+ * 역색인으로 찾은 검색 후보
+ * @param articleIds title, content 조건을 만족할 수 있는 게시글 id (null : 제한 없음)
+ * @param memberIds nickname 조건을 만족할 수 있는 작성자 id (null : 제한 없음)
+ */
+public record SearchCandidates(List<Long> articleIds, List<Long> memberIds) {
+
+    /**
+     * 후보가 하나도 없는 경우 -> DB 조회 없이 빈 결과
+     */
+    public boolean isEmpty() {
+        return (articleIds != null && articleIds.isEmpty()) || (memberIds != null && memberIds.isEmpty());
+    }
+}
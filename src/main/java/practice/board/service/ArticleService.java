@@ -1,22 +1,34 @@
 package practice.board.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import practice.board.domain.*;
 import practice.board.exception.ApiException;
-import practice.board.exception.ErrorCode;
+import practice.board.repository.ArticleCountCache;
 import practice.board.repository.ArticleRepository;
+import practice.board.repository.ArticleResDtoCache;
+import practice.board.repository.ArticleViewCountBuffer;
+import practice.board.repository.CommentRepository;
 import practice.board.repository.DislikeArticleRepository;
 import practice.board.repository.LikeArticleRepository;
 import practice.board.repository.MemberRepository;
+import practice.board.repository.search.ArticleSearchIndex;
 import practice.board.service.file.LocalFileService;
+import practice.board.service.file.StagedFile;
+import practice.board.service.file.StoredFileService;
+import practice.board.service.file.ThumbnailService;
 import practice.board.web.dto.article.ArticleResDto;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
 
 import static practice.board.exception.ErrorCode.*;
 
@@ -26,11 +38,19 @@ import static practice.board.exception.ErrorCode.*;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final LocalFileService localFileService;
     private final DislikeArticleRepository dislikeArticleRepository;
     private final LikeArticleRepository likeArticleRepository;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleViewCountBuffer articleViewCountBuffer;
+    private final ArticleResDtoCache articleResDtoCache;
+    private final TransactionTemplate transactionTemplate;
+    private final StoredFileService storedFileService;
+    private final ThumbnailService thumbnailService;
 
     private static final String SUCCESS_LIKE_ARTICLE = "좋아요 처리 완료";
     private static final String SUCCESS_UNLIKE_ARTICLE = "좋아요 취소 완료";
@@ -40,29 +60,57 @@ public class ArticleService {
 
     /**
      * 저장
+     * 첨부파일은 트랜잭션 시작 전에 임시 경로에 저장 (디스크 I/O 동안 db 커넥션을 잡지 않음), 커밋 직전에 최종 경로로 이동
+     * 첨부파일이 이미지면 커밋 후 별도 스레드에서 썸네일 생성 (응답을 기다리게 하지 않음)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Long saveArticle(Long memberId, Article article, Optional<MultipartFile> uploadFile) {  //TODO Optional로 받는게 불편한데...
-
-        //member 찾아서 article 의 writer 로 저장  //TODO Article.createArticle() 로 생성할 때 이미 Member 넣어줬는데,,,
-        memberRepository.findById(memberId).ifPresentOrElse(article::setWriter, () -> {
-            throw new ApiException(MEMBER_NOT_FOUND, "해당 회원이 없습니다. memberId=" + memberId);
-        });
-
-        //article 의 file 저장
-        uploadFile.ifPresent(file ->
-                article.updateFilePath(localFileService.save(file)));
-
-        Article savedArticle = articleRepository.save(article);
-        return savedArticle.getId();
+        Optional<StagedFile> stagedFile = uploadFile.map(localFileService::stage);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                //member 찾아서 article 의 writer 로 저장  //TODO Article.createArticle() 로 생성할 때 이미 Member 넣어줬는데,,,
+                memberRepository.findById(memberId).ifPresentOrElse(article::setWriter, () -> {
+                    throw new ApiException(MEMBER_NOT_FOUND, "해당 회원이 없습니다. memberId=" + memberId);
+                });
+
+                //article 의 file 경로 저장 (같은 내용의 파일이 이미 있으면 참조 수만 증가)
+                stagedFile.ifPresent(file -> {
+                    String filePath = localFileService.moveBeforeCommit(file);
+                    storedFileService.replace(article.getFilePath(), filePath);
+                    article.updateFilePath(filePath);
+                    thumbnailService.generateAfterCommit(filePath);  //커밋 후 썸네일 생성 (파일은 커밋 직전에 이동)
+                });
+
+                Article savedArticle = articleRepository.save(article);
+                articleCountCache.invalidate();  //검색 count 캐시 무효화 (검색 색인은 ArticleSearchIndexListener 에서 추가)
+                return savedArticle.getId();
+            });
+        } catch (RuntimeException e) {
+            stagedFile.ifPresent(localFileService::discard);
+            throw e;
+        }
     }
 
     /**
      * 수정 (작성자 본인의 password 일치하면 수정 진행)
+     * 첨부파일은 저장과 마찬가지로 트랜잭션 밖에서 임시 경로에 저장
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void update(Long id, String checkPassword, String newTitle, String newContent, MultipartFile newUploadFile) {
         //TODO 파라미터를 다 Optional 로 받아올까? or 그냥 이대로 받아오고 아래 코드에서 Optional.ofNullable()를 추가하면 되지 않나?
+        Optional<StagedFile> stagedFile = Optional.ofNullable(newUploadFile).map(localFileService::stage);
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    updateInTransaction(id, checkPassword, newTitle, newContent, stagedFile));
+        } catch (RuntimeException e) {
+            stagedFile.ifPresent(localFileService::discard);
+            throw e;
+        }
+    }
+
+    private void updateInTransaction(Long id, String checkPassword, String newTitle, String newContent, Optional<StagedFile> stagedFile) {
 
         //Article, Member 조회
         Article article = findById(id, false);
@@ -73,6 +121,10 @@ public class ArticleService {
             throw new ApiException(WRONG_PASSWORD);
         }
 
+        //검색 색인 수정을 위해 수정 전 title, content 보관
+        String oldTitle = article.getTitle();
+        String oldContent = article.getContent();
+
         //title 수정
         Optional.ofNullable(newTitle)
                 .ifPresent(article::updateTitle);
@@ -81,12 +133,18 @@ public class ArticleService {
         Optional.ofNullable(newContent)
                 .ifPresent(article::updateContent);
 
-        //filePath 수정
-        Optional.ofNullable(newUploadFile)
-                .ifPresent(file ->
-                        article.updateFilePath(localFileService.save(file)));
+        //filePath 수정 (이전 파일 참조 수 -1)
+        stagedFile.ifPresent(file -> {
+            String filePath = localFileService.moveBeforeCommit(file);
+            storedFileService.replace(article.getFilePath(), filePath);
+            article.updateFilePath(filePath);
+            thumbnailService.generateAfterCommit(filePath);
+        });
 
         articleRepository.save(article);
+        articleCountCache.invalidate();  //title, content 가 바뀌면 검색 결과도 바뀜
+        articleSearchIndex.updateArticle(id, oldTitle, oldContent, article.getTitle(), article.getContent());
+        articleResDtoCache.invalidate(id);
     }
 
     /**
@@ -102,7 +160,12 @@ public class ArticleService {
             throw new ApiException(WRONG_PASSWORD);
         }
 
+        articleSearchIndex.removeArticle(id, article.getTitle(), article.getContent());
+        storedFileService.release(article.getFilePath());  //첨부파일 참조 수 -1
+        commentRepository.deleteAllByArticleId(id);  //댓글 먼저 한번에 삭제
         articleRepository.deleteById(id);
+        articleCountCache.invalidate();
+        articleResDtoCache.invalidate(id);
     }
 
     /**
@@ -110,7 +173,15 @@ public class ArticleService {
      */
     @Transactional
     public void deleteById(Long id) {
+        articleRepository.findById(id).ifPresent(article -> {
+            articleSearchIndex.removeArticle(id, article.getTitle(), article.getContent());
+            storedFileService.release(article.getFilePath());
+        });
+
+        commentRepository.deleteAllByArticleId(id);  //댓글 먼저 한번에 삭제
         articleRepository.deleteById(id);
+        articleCountCache.invalidate();
+        articleResDtoCache.invalidate(id);
     }
 
 
@@ -121,53 +192,70 @@ public class ArticleService {
     public Article findById(Long id, Boolean increaseViewCount) {
         Article article = articleRepository.findById(id).orElseThrow(() -> new ApiException(ARTICLE_NOT_FOUND));
 
+        //조회수는 버퍼에 모아뒀다가 주기적으로 db 에 반영
         if (increaseViewCount) {
-            article.increaseViewCount();
+            articleViewCountBuffer.increase(id);
         }
 
+        //아직 db 에 반영되지 않은 조회수 더하기
+        article.applyPendingViewCount(articleViewCountBuffer.getPending(id));
+
         return article;
     }
 
 
     /**
-     * 좋아요 관련
+     * 좋아요 관련 - 좋아요 했던 글이면 취소, 아니면 좋아요 처리
+     * (조회 후 판단 X -> 삭제/추가된 row 가 있을 때만 좋아요 수 변경)
      */
     @Transactional
     public String updateLikes(Long id, Member member) {
-        Article article = findById(id, false);
+        validateArticleExists(id);
+        articleResDtoCache.invalidate(id);  //좋아요 수 변경
 
         //이미 좋아요 했던 글인데, 좋아요 누르는 경우 -> 좋아요 취소
-        if (hasLikedArticle(article, member)) {
-            return unlikeArticle(article, member);
+        if (likeArticleRepository.deleteByArticleIdAndMemberId(id, member.getId()) > 0) {
+            articleRepository.addLikes(id, -1);
+            return SUCCESS_UNLIKE_ARTICLE;
         }
 
-        //좋아요 한 적 없으면 -> 좋아요 처리
-        return likeArticle(article, member);
+        //좋아요 한 적 없으면 -> 좋아요 처리 (동시에 들어온 요청이 먼저 추가했으면 아무것도 안함)
+        if (insertReaction(() -> likeArticleRepository.insertIfAbsent(id, member.getId())) > 0) {
+            articleRepository.addLikes(id, 1);
+        }
+        return SUCCESS_LIKE_ARTICLE;
     }
 
 
     /**
-     * 좋아요 처리
+     * 싫어요 관련 - 싫어요 했던 글이면 취소, 아니면 싫어요 처리
      */
     @Transactional
-    public String likeArticle(Article article, Member member) {
-        article.increaseLikes();
-        LikeArticle likeArticle = LikeArticle.create(article, member);
-        likeArticleRepository.save(likeArticle);
+    public String updateDislikes(Long id, Member member) {
+        validateArticleExists(id);
+        articleResDtoCache.invalidate(id);
 
-        return SUCCESS_LIKE_ARTICLE;
+        if (dislikeArticleRepository.deleteByArticleIdAndMemberId(id, member.getId()) > 0) {
+            articleRepository.addDislikes(id, -1);
+            return SUCCESS_UNDISLIKE_ARTICLE;
+        }
+
+        if (insertReaction(() -> dislikeArticleRepository.insertIfAbsent(id, member.getId())) > 0) {
+            articleRepository.addDislikes(id, 1);
+        }
+        return SUCCESS_DISLIKE_ARTICLE;
     }
 
     /**
-     * 좋아요 취소 처리
+     * 좋아요/싫어요 추가 - 동시에 들어온 같은 요청이 먼저 커밋해서 unique 제약조건 위반인 경우 409
+     * (not exists 조건은 커밋 전인 다른 트랜잭션의 row 를 보지 못함)
      */
-    @Transactional
-    public String unlikeArticle(Article article, Member member) {
-        article.decreaseLikes();
-        likeArticleRepository.findByArticleAndMember(article, member)
-                .ifPresentOrElse(likeArticleRepository::delete, () ->
-                        new ApiException(ErrorCode.LIKEARTICLE_NOT_FOUND));
-        return SUCCESS_UNLIKE_ARTICLE;
+    private int insertReaction(IntSupplier insert) {
+        try {
+            return insert.getAsInt();
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException(REACTION_ALREADY_PROCESSED);
+        }
     }
 
     /**
@@ -177,54 +265,63 @@ public class ArticleService {
         return likeArticleRepository.findByArticleAndMember(article, member).isPresent();
     }
 
-
     /**
-     * 싫어요 관련
+     * 싫어요 한 글인지 체크
      */
-    public String updateDislikes(Long id, Member member) {
-        Article article = findById(id, false);
-
-        if (hasDislikedArticle(article, member)) {
-            return unDislikeArticle(article, member);
-        }
-
-        return dislikeArticle(article, member);
+    public boolean hasDislikedArticle(Article article, Member member) {
+        return dislikeArticleRepository.findByArticleAndMember(article, member).isPresent();
     }
 
     /**
-     * 싫어요 처리
+     * 회원의 좋아요/싫어요 여부를 dto 에 채움
+     * (게시글마다 조회 X -> 좋아요, 싫어요 각각 IN 쿼리 한번)
      */
-    @Transactional
-    public String dislikeArticle(Article article, Member member) {
-        article.increaseDislikes();
-        DislikeArticle dislikeArticle = DislikeArticle.create(article, member);
-        dislikeArticleRepository.save(dislikeArticle);
+    public void fillMyReactions(List<ArticleResDto> dtoList, Long memberId) {
+        if (dtoList.isEmpty()) {
+            return;
+        }
 
-        return SUCCESS_DISLIKE_ARTICLE;
-    }
+        List<Long> articleIds = dtoList.stream()
+                .map(ArticleResDto::getId)
+                .toList();
 
-    /**
-     * 싫어요 취소 처리
-     */
-    @Transactional
-    public String unDislikeArticle(Article article, Member member) {
-        article.decreaseDislikes();
-        dislikeArticleRepository.findByArticleAndMember(article, member)
-                .ifPresentOrElse(dislikeArticleRepository::delete, () ->
-                        new ApiException(ErrorCode.DISLIKEARTICLE_NOT_FOUND));
+        Set<Long> likedArticleIds = likeArticleRepository.findArticleIdsByMemberId(memberId, articleIds);
+        Set<Long> dislikedArticleIds = dislikeArticleRepository.findArticleIdsByMemberId(memberId, articleIds);
 
-        return SUCCESS_UNDISLIKE_ARTICLE;
+        dtoList.forEach(dto -> {
+            dto.setLiked(likedArticleIds.contains(dto.getId()));
+            dto.setDisliked(dislikedArticleIds.contains(dto.getId()));
+        });
+    }
+
+    private void validateArticleExists(Long id) {
+        if (!articleRepository.existsById(id)) {
+            throw new ApiException(ARTICLE_NOT_FOUND);
+        }
     }
 
     /**
-     * 싫어요 한 글인지 체크
+     * 게시글 하나 조회 (ArticleResDto) - 캐시된 값이 있으면 db 조회 X
+     * 조회수는 캐시에 있는 db 조회수 + 아직 db 에 반영되지 않은 증가분
+     * @param increaseViewCount 조회수 1 올릴지 여부
      */
-    public boolean hasDislikedArticle(Article article, Member member) {
-        return dislikeArticleRepository.findByArticleAndMember(article, member).isPresent();
+    public ArticleResDto findArticleResDto(Long id, boolean increaseViewCount) {
+        ArticleResDto dto = articleResDtoCache.get(id, () -> {
+            Article article = articleRepository.findById(id).orElseThrow(() -> new ApiException(ARTICLE_NOT_FOUND));
+            ArticleResDto loaded = ArticleResDto.from(article);
+            loaded.setViewCount(article.getViewCount() - (int) article.getAppliedPendingViewCount());  //캐시에는 db 조회수만
+            return loaded;
+        });
+
+        if (increaseViewCount) {
+            articleViewCountBuffer.increase(id);
+        }
+        dto.setViewCount(dto.getViewCount() + (int) articleViewCountBuffer.getPending(id));
+
+        return dto;
     }
 
     public ArticleResDto toArticleResDto(long articleId) {
-        Article article = findById(articleId, false);
-        return ArticleResDto.from(article);
+        return findArticleResDto(articleId, false);
     }
 }
@@ -1,6 +1,10 @@
 package practice.board.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Article;
@@ -8,12 +12,19 @@ import practice.board.domain.Comment;
 import practice.board.domain.Member;
 import practice.board.exception.ApiException;
 import practice.board.repository.ArticleRepository;
+import practice.board.repository.ArticleResDtoCache;
+import practice.board.repository.CommentNode;
 import practice.board.repository.CommentRepository;
 import practice.board.repository.MemberRepository;
 import practice.board.web.dto.comment.CommentResDto;
+import practice.board.web.dto.comment.CommentTreeAssembler;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
+import static java.util.stream.Collectors.toMap;
 import static practice.board.exception.ErrorCode.*;
 
 @Service
@@ -24,6 +35,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ArticleService articleService;
     private final MemberService memberService;
+    private final ArticleResDtoCache articleResDtoCache;
 
     /**
      * 저장
@@ -37,6 +49,7 @@ public class CommentService {
         Comment comment = Comment.createComment(article, member, content, parentComment);
 
         commentRepository.save(comment);
+        articleResDtoCache.invalidate(articleId);  //게시글의 commentIdList 변경
         return comment.getId();
     }
 
@@ -53,30 +66,71 @@ public class CommentService {
 
     /**
      * 삭제
+     * 자식댓글이 있으면 화면상 삭제, 없으면 db 에서 삭제
+     * db 에서 삭제할 때, 화면상 삭제된 조상 댓글 중 더 이상 자식댓글이 남지 않는 댓글도 함께 db 에서 삭제
+     * (조상 댓글 정보는 path 로 한번에 조회, 삭제는 자식댓글부터 batch 로 한번에 -> depth 와 상관없이 쿼리 수 일정)
      */
     @Transactional
     public void delete(Long id) {
         //comment 조회
         Comment comment = findById(id);
 
-        //자식댓글 없는 경우
-        if (comment.isChildListEmpty()) {
+        //해당 댓글 + 조상 댓글의 화면상 삭제 여부, 자식댓글 수 조회
+        List<Long> ancestorIds = comment.getAncestorIds();
+        List<Long> lineageIds = new ArrayList<>(ancestorIds);
+        lineageIds.add(id);
 
-            Comment parentComment = comment.getParent();
+        Map<Long, CommentNode> nodeById = commentRepository.findNodesByIdIn(lineageIds).stream()
+                .collect(toMap(CommentNode::id, node -> node));
 
-            //부모댓글이 있고 화면상 삭제된 상태인 경우
-            while (parentComment != null && parentComment.isRemoved()) {
-                Long parentId = parentComment.getId();
-                parentComment = parentComment.getParent();
-                commentRepository.deleteById(parentId);  //부모댓글 : db 에서 삭제
-            }
-
-            commentRepository.deleteById(id);  //해당 댓글 : db 에서 삭제
-        }
         //자식댓글 있는 경우
-        else {
+        if (nodeById.get(id).childCount() > 0) {
             comment.tempDelete();  //해당 댓글 : 화면상 삭제
+            return;
+        }
+
+        //자식댓글 없는 경우 (deleteIds 는 깊은 댓글부터 = 자식댓글부터)
+        List<Long> deleteIds = new ArrayList<>();
+        deleteIds.add(id);  //해당 댓글 : db 에서 삭제
+
+        //가까운 부모댓글부터, 화면상 삭제된 상태이고 남은 자식댓글이 (지금 삭제하는 댓글) 하나뿐이면 함께 db 에서 삭제
+        for (int i = ancestorIds.size() - 1; i >= 0; i--) {
+            CommentNode ancestor = nodeById.get(ancestorIds.get(i));
+            if (ancestor == null || !ancestor.removed() || ancestor.childCount() > 1) {
+                break;
+            }
+            deleteIds.add(ancestor.id());
+        }
+
+        commentRepository.deleteAllChildrenFirst(deleteIds);
+        articleResDtoCache.invalidate(comment.getArticle().getId());
+    }
+
+
+    /**
+     * 하위 댓글까지 모두 화면상 삭제 - ADMIN 이 스레드 전체를 가리는 경우 (DELETE /api/comments/{id}/thread)
+     * @return 화면상 삭제된 댓글 수
+     */
+    @Transactional
+    public int tempDeleteSubtree(Long id) {
+        Comment comment = findById(id);
+        return commentRepository.softDeleteSubtree(id, comment.getThreadPath(), Comment.DELETED_CONTENT);
+    }
+
+
+    /**
+     * 해당 댓글과 모든 하위 댓글 조회 - 화면 표시 순서 (부모 다음에 자식, 형제는 id 순)
+     */
+    public List<CommentResDto> findThread(Long id) {
+        List<Comment> subtree = commentRepository.findSubtree(id, Comment.toPathSegment(id));
+        if (subtree.isEmpty()) {
+            throw new ApiException(COMMENT_NOT_FOUND);
         }
+
+        return subtree.stream()
+                .sorted(Comparator.comparing(Comment::getThreadPath))
+                .map(CommentResDto::from)
+                .toList();
     }
 
 
@@ -89,6 +143,20 @@ public class CommentService {
     }
 
 
+    /**
+     * 게시글의 댓글 트리 조회 - 최상위 댓글 기준으로 페이징
+     * 최상위 댓글 id 를 db 에서 페이징한 뒤, 해당 최상위 댓글의 하위 댓글만 조회해서 메모리에서 트리 생성 (게시글의 댓글 전체를 조회하지 않음)
+     * @param maxDepth 이 depth 까지의 자식댓글만 포함 (null 이면 제한 없음)
+     */
+    public Page<CommentResDto> findCommentTree(Long articleId, Integer maxDepth, Pageable pageable) {
+        //최상위 댓글은 id 순서로 고정 (정렬 조건은 쿼리에 포함)
+        Page<Long> rootIds = commentRepository.findRootIdsByArticleId(articleId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        List<Comment> comments = commentRepository.findTreesByRootIds(rootIds.getContent(), maxDepth);
+
+        return new PageImpl<>(CommentTreeAssembler.assemble(comments, maxDepth), pageable, rootIds.getTotalElements());
+    }
+
+
     /**
      * CommentResDto 로 변환
      */
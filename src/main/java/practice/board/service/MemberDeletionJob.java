@@ -0,0 +1,67 @@
+package practice.board.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 탈퇴 작업 진행 상태 (MemberDeletionService 의 작업 스레드에서 변경, 상태 조회 요청에서 읽음)
+ */
+@Getter
+public class MemberDeletionJob {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 처리 순서
+     */
+    public enum Step {
+        ARTICLES,  //작성 글 -> 탈퇴 회원
+        COMMENTS,  //작성 댓글 -> 탈퇴 회원
+        LIKES,  //좋아요 삭제, 게시글 좋아요 수 -1
+        DISLIKES,  //싫어요 삭제, 게시글 싫어요 수 -1
+        MEMBER  //회원 삭제
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long memberId;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.PENDING;
+    private volatile Step step;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    private final AtomicLong reassignedArticles = new AtomicLong();
+    private final AtomicLong reassignedComments = new AtomicLong();
+    private final AtomicLong deletedLikes = new AtomicLong();
+    private final AtomicLong deletedDislikes = new AtomicLong();
+
+    MemberDeletionJob(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    void moveTo(Step step) {
+        this.status = Status.RUNNING;
+        this.step = step;
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,342 @@
+package practice.board.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import practice.board.domain.Member;
+import practice.board.exception.ApiException;
+import practice.board.jwt.JwtService;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.ArticleResDtoCache;
+import practice.board.repository.CommentRepository;
+import practice.board.repository.DislikeArticleRepository;
+import practice.board.repository.LikeArticleRepository;
+import practice.board.repository.MemberRepository;
+import practice.board.repository.ReactionRef;
+import practice.board.repository.search.ArticleSearchIndex;
+import practice.board.service.MemberDeletionJob.Step;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+import static practice.board.exception.ErrorCode.*;
+
+/**
+ * 회원 탈퇴 - 별도 스레드에서 chunk-size 개씩 나눠서 처리 (chunk 마다 커밋 -> 긴 트랜잭션, 많은 row 의 lock X)
+ * 작성 글, 댓글은 탈퇴 회원으로 변경, 좋아요/싫어요는 삭제 후 게시글의 좋아요/싫어요 수 -1, 마지막으로 회원 삭제
+ * 중간에 실패하거나 서버가 재시작되면 다시 요청 (이미 처리된 chunk 는 다시 처리되지 않음)
+ */
+@Slf4j
+@Service
+public class MemberDeletionService {
+
+    private static final String DELETED_MEMBER_USERNAME = "탈퇴한 사용자";
+
+    private final MemberRepository memberRepository;
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final LikeArticleRepository likeArticleRepository;
+    private final DislikeArticleRepository dislikeArticleRepository;
+    private final JwtService jwtService;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleResDtoCache articleResDtoCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final long retentionSeconds;  //끝난 작업의 상태 보관 시간
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, MemberDeletionJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<Long> deletedMemberId = new AtomicReference<>();  //탈퇴 회원 id (한번 조회 후 재사용)
+
+    public MemberDeletionService(MemberRepository memberRepository,
+                                 ArticleRepository articleRepository,
+                                 CommentRepository commentRepository,
+                                 LikeArticleRepository likeArticleRepository,
+                                 DislikeArticleRepository dislikeArticleRepository,
+                                 JwtService jwtService,
+                                 ArticleSearchIndex articleSearchIndex,
+                                 ArticleResDtoCache articleResDtoCache,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${member.deletion.chunk-size:1000}") int chunkSize,
+                                 @Value("${member.deletion.queue-capacity:100}") int queueCapacity,
+                                 @Value("${member.deletion.retention-seconds:3600}") long retentionSeconds) {
+        this.memberRepository = memberRepository;
+        this.articleRepository = articleRepository;
+        this.commentRepository = commentRepository;
+        this.likeArticleRepository = likeArticleRepository;
+        this.dislikeArticleRepository = dislikeArticleRepository;
+        this.jwtService = jwtService;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleResDtoCache = articleResDtoCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.retentionSeconds = retentionSeconds;
+
+        //탈퇴 작업은 한번에 하나씩 (여러 작업이 동시에 같은 게시글의 좋아요 수를 바꾸지 않도록)
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "member-deletion");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+
+    /**
+     * 탈퇴 작업 등록 - 같은 회원의 작업이 이미 진행 중이면 그 작업 반환
+     */
+    public synchronized MemberDeletionJob submit(Long memberId) {
+        removeFinishedJobs();
+
+        Optional<MemberDeletionJob> runningJob = jobs.values().stream()
+                .filter(job -> job.getMemberId().equals(memberId) && !job.isFinished())
+                .findFirst();
+        if (runningJob.isPresent()) {
+            return runningJob.get();
+        }
+
+        //대기열이 가득 찬 경우 바로 429 응답
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new ApiException(TOO_MANY_MEMBER_DELETIONS);
+        }
+
+        MemberDeletionJob job = new MemberDeletionJob(memberId);
+        jobs.put(job.getId(), job);
+
+        //요청 트랜잭션(비밀번호 확인, refresh token 삭제)이 커밋된 후 실행
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    execute(job);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        jobs.remove(job.getId());
+                    }
+                }
+            });
+        } else {
+            execute(job);
+        }
+        return job;
+    }
+
+    private void execute(MemberDeletionJob job) {
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            log.warn("회원 탈퇴 작업 등록 실패 (대기열 가득 참). memberId={}", job.getMemberId());
+            job.fail(TOO_MANY_MEMBER_DELETIONS.getMessage());
+        }
+    }
+
+    public MemberDeletionJob findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .orElseThrow(() -> new ApiException(MEMBER_DELETION_NOT_FOUND));
+    }
+
+    /**
+     * 탈퇴 처리 (작업 스레드에서 실행)
+     */
+    public void run(MemberDeletionJob job) {
+        Long memberId = job.getMemberId();
+
+        try {
+            processChunks(job);
+            deleteMember(job);
+
+            job.complete();
+            log.info("회원 탈퇴 완료. memberId={}, articles={}, comments={}, likes={}, dislikes={}", memberId,
+                    job.getReassignedArticles(), job.getReassignedComments(), job.getDeletedLikes(), job.getDeletedDislikes());
+        } catch (RuntimeException e) {
+            log.error("[MemberDeletionService.run() 예외 발생] memberId={}, step={}", memberId, job.getStep(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * 글, 댓글 작성자 변경 + 좋아요/싫어요 삭제 (chunk 마다 커밋)
+     */
+    void processChunks(MemberDeletionJob job) {
+        Long memberId = job.getMemberId();
+        Long deletedMemberId = getOrCreateDeletedMemberId();
+
+        processInChunks(job, Step.ARTICLES, job.getReassignedArticles(), () -> reassignArticles(memberId, deletedMemberId));
+        processInChunks(job, Step.COMMENTS, job.getReassignedComments(), () -> reassignComments(memberId, deletedMemberId));
+        processInChunks(job, Step.LIKES, job.getDeletedLikes(), () -> deleteLikes(memberId));
+        processInChunks(job, Step.DISLIKES, job.getDeletedDislikes(), () -> deleteDislikes(memberId));
+    }
+
+    /**
+     * 회원 삭제 - 회원 row 에 lock 을 건 뒤, 앞 단계 이후에 추가된 글, 댓글, 좋아요/싫어요를 같은 트랜잭션에서 처리
+     * (탈퇴 요청 후에도 access token 이 만료될 때까지는 글 작성 등이 가능 -> 처리하지 않으면 FK 제약조건 위반)
+     * lock 을 건 후에 추가되는 row 는 FK 검사에서 커밋까지 대기 후 실패
+     */
+    void deleteMember(MemberDeletionJob job) {
+        Long memberId = job.getMemberId();
+        Long deletedMemberId = getOrCreateDeletedMemberId();
+        job.moveTo(Step.MEMBER);
+
+        long[] processed = transactionTemplate.execute(status -> {
+            Optional<Member> memberOptional = memberRepository.findByIdForUpdate(memberId);
+            if (memberOptional.isEmpty()) {
+                return new long[4];  //이미 삭제됨
+            }
+            String username = memberOptional.get().getUsername();
+            String nickname = memberOptional.get().getNickname();
+
+            long[] counts = {
+                    drain(() -> reassignArticles(memberId, deletedMemberId)),
+                    drain(() -> reassignComments(memberId, deletedMemberId)),
+                    drain(() -> deleteLikes(memberId)),
+                    drain(() -> deleteDislikes(memberId))
+            };
+
+            jwtService.destroyRefreshToken(username);  //모든 기기의 refresh token 삭제
+            memberRepository.deleteById(memberId);
+            articleSearchIndex.removeMember(memberId, nickname);
+            return counts;
+        });
+
+        //커밋된 경우에만 진행 상태에 반영
+        job.getReassignedArticles().addAndGet(processed[0]);
+        job.getReassignedComments().addAndGet(processed[1]);
+        job.getDeletedLikes().addAndGet(processed[2]);
+        job.getDeletedDislikes().addAndGet(processed[3]);
+    }
+
+    /**
+     * chunk 하나씩 트랜잭션으로 처리 - 처리한 row 가 chunk-size 보다 적으면 끝
+     */
+    private void processInChunks(MemberDeletionJob job, Step step, AtomicLong progress, IntSupplier chunk) {
+        job.moveTo(step);
+
+        int processed;
+        do {
+            Integer result = transactionTemplate.execute(status -> chunk.getAsInt());
+            processed = result == null ? 0 : result;
+            progress.addAndGet(processed);
+        } while (processed == chunkSize);
+    }
+
+    /**
+     * 현재 트랜잭션에서 남은 row 가 없을 때까지 처리
+     */
+    private long drain(IntSupplier chunk) {
+        long total = 0;
+        int processed;
+        do {
+            processed = chunk.getAsInt();
+            total += processed;
+        } while (processed == chunkSize);
+        return total;
+    }
+
+    private int reassignArticles(Long memberId, Long deletedMemberId) {
+        List<Long> articleIds = articleRepository.findIdsByWriterId(memberId, PageRequest.of(0, chunkSize));
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        articleRepository.updateWriterByIdIn(articleIds, memberRepository.getReferenceById(deletedMemberId));
+        articleIds.forEach(articleResDtoCache::invalidate);  //작성자 닉네임 변경
+        return articleIds.size();
+    }
+
+    private int reassignComments(Long memberId, Long deletedMemberId) {
+        List<Long> commentIds = commentRepository.findIdsByWriterId(memberId, PageRequest.of(0, chunkSize));
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+
+        commentRepository.updateWriterByIdIn(commentIds, memberRepository.getReferenceById(deletedMemberId));
+        return commentIds.size();
+    }
+
+    private int deleteLikes(Long memberId) {
+        List<ReactionRef> likes = likeArticleRepository.findByMemberId(memberId, chunkSize);
+        if (likes.isEmpty()) {
+            return 0;
+        }
+
+        //한 회원은 한 게시글에 좋아요 한번 -> 게시글마다 -1
+        List<Long> articleIds = likes.stream().map(ReactionRef::articleId).toList();
+        likeArticleRepository.deleteAllByIdIn(likes.stream().map(ReactionRef::id).toList());
+        articleRepository.addLikesByIdIn(articleIds, -1);
+        articleIds.forEach(articleResDtoCache::invalidate);
+        return likes.size();
+    }
+
+    private int deleteDislikes(Long memberId) {
+        List<ReactionRef> dislikes = dislikeArticleRepository.findByMemberId(memberId, chunkSize);
+        if (dislikes.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> articleIds = dislikes.stream().map(ReactionRef::articleId).toList();
+        dislikeArticleRepository.deleteAllByIdIn(dislikes.stream().map(ReactionRef::id).toList());
+        articleRepository.addDislikesByIdIn(articleIds, -1);
+        articleIds.forEach(articleResDtoCache::invalidate);
+        return dislikes.size();
+    }
+
+    /**
+     * 탈퇴 회원 id - 한번 조회하면 캐시 (새로 만든 경우 커밋 후 캐시)
+     */
+    private Long getOrCreateDeletedMemberId() {
+        Long cachedId = deletedMemberId.get();
+        if (cachedId != null) {
+            return cachedId;
+        }
+
+        return transactionTemplate.execute(status -> {
+            Optional<Member> deletedMemberOptional = memberRepository.findByUsername(DELETED_MEMBER_USERNAME);
+
+            if (deletedMemberOptional.isPresent()) {
+                Long id = deletedMemberOptional.get().getId();
+                deletedMemberId.set(id);
+                return id;
+            }
+
+            Member deletedMember = memberRepository.save(Member.createDeletedMember());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deletedMemberId.set(deletedMember.getId());
+                }
+            });
+            return deletedMember.getId();
+        });
+    }
+
+    private void removeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(retentionSeconds);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
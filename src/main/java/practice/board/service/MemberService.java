@@ -13,9 +13,9 @@ import practice.board.domain.Member;
 import practice.board.domain.Role;
 import practice.board.exception.ApiException;
 import practice.board.jwt.JwtService;
-import practice.board.repository.ArticleRepository;
-import practice.board.repository.CommentRepository;
+import practice.board.repository.MemberDuplication;
 import practice.board.repository.MemberRepository;
+import practice.board.repository.search.ArticleSearchIndex;
 import practice.board.web.dto.jwt.TokenDto;
 import practice.board.web.dto.member.MemberResDto;
 import practice.board.web.dto.member.MemberSaveReqDto;
@@ -38,10 +38,8 @@ public class MemberService {
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final MemberRepository memberRepository;
-    private final ArticleRepository articleRepository;
-    private final CommentRepository commentRepository;
-
-    private final String DELETED_MEMBER_USERNAME = "탈퇴한 사용자";
+    private final ArticleSearchIndex articleSearchIndex;
+    private final MemberDeletionService memberDeletionService;
 
     /**
      * 회원가입
@@ -61,41 +59,40 @@ public class MemberService {
         //role 을 USER 로 설정 (TODO ADMIN인 경우 따른 방식으로 가입)
         member.addUserRole();
 
-        memberRepository.save(member);
+        memberRepository.save(member);  //작성자 nickname 검색 색인은 ArticleSearchIndexListener 에서 추가
         return member.getId();
     }
 
     /**
-     * 중복 회원 검증 (email, username, nickname)
+     * 중복 회원 검증 (email, username, nickname) - 쿼리 한번으로 확인 후 중복된 값 순서대로 (username -> email -> nickname) 예외
      */
     private void validateDuplicateMember(Member member) {
+        MemberDuplication duplication = memberRepository.findDuplication(member.getUsername(), member.getEmail(), member.getNickname());
 
-        validateDuplicateUsername(member.getUsername());
-        validateDuplicateEmail(member.getEmail());
-        validateDuplicateNickname(member.getNickname());
-
-    }
-
-    private void validateDuplicateUsername(String username) {
-        memberRepository.findByUsername(username).ifPresent((m ->
-        {throw new ApiException(DUPLICATE_USERNAME_FOUND, "회원가입 실패 (이미 존재하는 username) username:" + username);}));
-    }
-
-    private void validateDuplicateEmail(String email) {
-        memberRepository.findByEmail(email).ifPresent((m ->
-        {throw new ApiException(DUPLICATE_USERNAME_FOUND, "회원가입 실패 (이미 존재하는 email) email:" + email);}));
+        if (duplication.username()) {
+            throw new ApiException(DUPLICATE_USERNAME_FOUND, "회원가입 실패 (이미 존재하는 username) username:" + member.getUsername());
+        }
+        if (duplication.email()) {
+            throw new ApiException(DUPLICATE_EMAIL_FOUND, "회원가입 실패 (이미 존재하는 email) email:" + member.getEmail());
+        }
+        if (duplication.nickname()) {
+            throw new ApiException(DUPLICATE_NICKNAME_FOUND, "회원가입 실패 (이미 존재하는 nickname) nickname:" + member.getNickname());
+        }
     }
 
+    /**
+     * 닉네임 중복 검증 (회원정보 수정 시)
+     */
     private void validateDuplicateNickname(String nickname) {
         memberRepository.findByNickname(nickname).ifPresent((m ->
-        {throw new ApiException(DUPLICATE_NICKNAME_FOUND, "회원가입 실패 (이미 존재하는 nickname) nickname:" + nickname);}));
+        {throw new ApiException(DUPLICATE_NICKNAME_FOUND, "회원정보 수정 실패 (이미 존재하는 nickname) nickname:" + nickname);}));
     }
 
 
     @Transactional
     public void updateRefreshToken(Long memberId, String refreshToken) {
         Member member = findById(memberId);
-        member.updateRefreshToken(refreshToken);
+        jwtService.updateRefreshToken(member.getUsername(), refreshToken);
     }
 
 
@@ -126,6 +123,7 @@ public class MemberService {
         //nickname 수정
         if (nickname != null && !nickname.equals(member.getNickname())) {  //기존 닉네임과 다른 닉네임일 때
             validateDuplicateNickname(nickname);
+            articleSearchIndex.updateMember(id, member.getNickname(), nickname);
             member.updateNickname(nickname);
         }
 
@@ -183,47 +181,26 @@ public class MemberService {
     /**
      * 삭제 (회원 탈퇴 전에 비밀번호 체크 진행, ADMIN 인 경우 체크 안함)
      * Member 탈퇴해도 작성한 글, 댓글은 남아있도록 하기 위해서
+     * 비밀번호 확인 후 탈퇴 작업만 등록 (글, 댓글 작성자 변경, 좋아요/싫어요 삭제, 회원 삭제는 MemberDeletionService 에서 나눠서 처리)
+     * @return 진행 상태 조회용 탈퇴 작업
      */
     @Transactional
-    public void deleteMemberWithHistory(Long id, String checkPassword) {
+    public MemberDeletionJob deleteMemberWithHistory(Long id, String checkPassword) {
 
         //member 조회
         Member memberToDelete = findById(id);
-        Member deletedMember = getOrCreateDeletedMember();
 
         //비밀번호 일치 여부 확인
         if (!memberToDelete.validatePassword(passwordEncoder, checkPassword) && !Role.ADMIN.equals(memberToDelete.getRole())) {
             throw new ApiException(WRONG_PASSWORD);
         }
 
-        //작성 글, 댓글의 member 이름 변경
-        articleRepository.findByWriter(id).forEach(article -> {
-            article.setWriter(deletedMember);
-            articleRepository.save(article);
-        });
-
-        commentRepository.findByWriter(id).forEach(comment -> {
-            comment.setWriter(deletedMember);
-            commentRepository.save(comment);
-        });
+        //탈퇴 요청 즉시 모든 기기의 refresh token 삭제 (회원 삭제 전까지 재발급 X)
+        jwtService.destroyRefreshToken(memberToDelete.getUsername());
 
-        //member 삭제
-        memberRepository.deleteById(id);
+        return memberDeletionService.submit(id);
     }
 
-    private Member getOrCreateDeletedMember() {
-        Optional<Member> deletedMemberOptional = memberRepository.findByUsername(DELETED_MEMBER_USERNAME);
-
-        if (deletedMemberOptional.isPresent()) {
-            return deletedMemberOptional.get();
-        }
-        else {
-            Member deletedMember = Member.createDeletedMember();
-            return memberRepository.save(deletedMember);
-        }
-    }
-
-
 
     public Member findById(Long id) {
         return memberRepository.findById(id)
@@ -239,6 +216,14 @@ public class MemberService {
      */
     @Transactional
     public TokenDto login(String username, String password) {
+        return login(username, password, JwtService.DEFAULT_DEVICE_ID);
+    }
+
+    /**
+     * 로그인 - refresh token 은 기기(deviceId)별로 저장
+     */
+    @Transactional
+    public TokenDto login(String username, String password, String deviceId) {
 
         //member 조회  TODO 중복이 많다.. jwtService.createAccessToken() -> cuastomUserDetailsService.loadUserByUesrname()에서도 검사하는데
         Member member = memberRepository.findByUsername(username).orElseThrow(() -> {
@@ -250,13 +235,18 @@ public class MemberService {
             throw new ApiException(LOGIN_FAILURE);
         }
 
+        //bcrypt cost 설정이 바뀐 경우, 로그인 성공 시 새 cost 로 다시 해싱
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.updatePassword(passwordEncoder, password);
+        }
+
         //1. JWT 발급
         //access token 생성
         String accessToken = jwtService.createAccessToken(member.getUsername());
         //refresh token 생성
         String refreshToken = jwtService.createRefreshToken();
-        //db에 refresh token 저장
-        member.updateRefreshToken(refreshToken);
+        //refresh token 저장 (같은 기기의 이전 토큰은 교체)
+        jwtService.updateRefreshToken(member.getUsername(), deviceId, refreshToken);
 
         //2. Authentication 객체 생성 후 SecurityContext 에 저장
         jwtService.saveAuthentication(accessToken);
@@ -0,0 +1,62 @@
+package practice.board.service.file;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 디스크 캐시 파일의 LRU 인덱스 - 전체 크기(byte)가 maxBytes 를 넘으면 오래 사용하지 않은 것부터 제거
+ * (파일 삭제는 호출하는 쪽에서)
+ */
+class DiskLruIndex {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);  //접근 순서
+    private long totalBytes;
+
+    DiskLruIndex(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 사용 기록 (LRU 순서 갱신)
+     */
+    synchronized boolean touch(String key) {
+        return sizes.get(key) != null;
+    }
+
+    /**
+     * 추가
+     * @return 용량 초과로 제거된 key (방금 추가한 key 는 제외)
+     */
+    synchronized List<String> put(String key, long size) {
+        Long previous = sizes.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = sizes.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            evicted.add(eldest.getKey());
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    synchronized void remove(String key) {
+        Long size = sizes.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+}
@@ -0,0 +1,248 @@
+package practice.board.service.file;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import practice.board.exception.ApiException;
+import practice.board.repository.ArticleFilePath;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.StoredFileRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static practice.board.exception.ErrorCode.*;
+
+/**
+ * 저장 경로의 파일 중 어떤 게시글도 참조하지 않는 파일 삭제
+ * (참조 수 관리 이전에 저장된 파일, 커밋되지 못하고 남은 임시 파일 등 - 참조 수가 있는 파일은 StoredFileService 에서 삭제)
+ *
+ * 1. 참조 중인 경로 수집 - 게시글 filePath, stored_file 경로를 id(경로) 순서로 나눠서 조회
+ * 2. 저장 경로를 순회하며 참조되지 않고 grace-seconds 보다 오래된 파일 삭제
+ *    LocalFileService 가 만든 경로(ab/cd/<hash>, .tmp/*.part 등)만 대상 (썸네일, 그 외 파일은 건드리지 않음)
+ * 기본값은 dry-run (삭제하지 않고 대상만 로그) -> file.gc.dry-run=false 로 설정해야 삭제
+ * 한 번에 max-deletes-per-run 개까지만, 초당 max-deletes-per-second 개까지만 삭제 (나머지는 다음 실행에서)
+ */
+@Slf4j
+@Service
+public class FileGarbageCollector {
+
+    private static final int STORE_DEPTH = 3;  //저장 경로 ab/cd/<hash> 까지만 순회
+
+    private final ArticleRepository articleRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final LocalFileService localFileService;
+    private final boolean dryRun;
+    private final long graceSeconds;
+    private final int scanBatchSize;
+    private final int maxDeletesPerRun;
+    private final long pauseNanos;  //삭제 사이 간격
+
+    private final AtomicLong deletedFiles = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+    private volatile FileGcResult lastResult;
+
+    //요청으로 실행하는 정리는 별도 스레드에서 (초당 삭제 수 제한으로 오래 걸릴 수 있음), 한 번에 하나만
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-gc");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FileGarbageCollector(ArticleRepository articleRepository,
+                                StoredFileRepository storedFileRepository,
+                                LocalFileService localFileService,
+                                @Value("${file.gc.dry-run:true}") boolean dryRun,
+                                @Value("${file.gc.grace-seconds:86400}") long graceSeconds,
+                                @Value("${file.gc.scan-batch-size:500}") int scanBatchSize,
+                                @Value("${file.gc.max-deletes-per-run:1000}") int maxDeletesPerRun,
+                                @Value("${file.gc.max-deletes-per-second:50}") int maxDeletesPerSecond) {
+        this.articleRepository = articleRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.localFileService = localFileService;
+        this.dryRun = dryRun;
+        this.graceSeconds = graceSeconds;
+        this.scanBatchSize = scanBatchSize;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+        this.pauseNanos = maxDeletesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDeletesPerSecond : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:3600000}", initialDelayString = "${file.gc.interval-ms:3600000}")
+    public void collect() {
+        collect(dryRun);
+    }
+
+    /**
+     * 파일 정리 요청 - 별도 스레드에서 실행 후 바로 반환 (결과는 getStats() 의 lastResult)
+     * 요청으로 실행한 정리가 이미 진행 중이면 예외
+     */
+    public void collectAsync(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ApiException(FILE_GC_IN_PROGRESS);
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    collect(dryRun);
+                } catch (RuntimeException e) {
+                    log.error("[FileGarbageCollector.collectAsync() 예외 발생]", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 정리 (동시에 한 번만 실행)
+     * @param dryRun true 면 삭제하지 않고 대상만 로그, 집계
+     */
+    public synchronized FileGcResult collect(boolean dryRun) {
+        Set<Path> referencedPaths = findReferencedPaths();
+
+        Path fileDir = localFileService.getFileDir();
+        Instant cutoff = Instant.now().minusSeconds(graceSeconds);
+
+        int scannedFiles = 0;
+        int garbageFiles = 0;
+        long garbageBytes = 0;
+
+        try (Stream<Path> files = Files.walk(fileDir, STORE_DEPTH)) {
+            Iterator<Path> iterator = files
+                    .filter(localFileService::isStoreManaged)  //저장소가 만든 경로만 (썸네일, 다른 파일 제외)
+                    .filter(Files::isRegularFile)
+                    .iterator();
+
+            while (iterator.hasNext() && garbageFiles < maxDeletesPerRun) {
+                Path path = iterator.next();
+                scannedFiles++;
+
+                if (referencedPaths.contains(path)) {
+                    continue;
+                }
+
+                //방금 저장된 파일은 게시글 커밋 전일 수 있으므로 제외
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue;  //순회 중 삭제됨
+                }
+                if (attributes.lastModifiedTime().toInstant().isAfter(cutoff)) {
+                    continue;
+                }
+
+                if (dryRun) {
+                    log.info("[dry-run] 참조가 없는 파일. path={}, size={}", path, attributes.size());
+                } else {
+                    if (!Files.deleteIfExists(path)) {
+                        continue;
+                    }
+                    log.info("참조가 없는 파일 삭제. path={}, size={}", path, attributes.size());
+                }
+                garbageFiles++;
+                garbageBytes += attributes.size();
+
+                if (!dryRun && !pause()) {
+                    break;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("파일 정리 중 예외 발생. fileDir={}", fileDir, e);
+        }
+
+        if (!dryRun) {
+            deletedFiles.addAndGet(garbageFiles);
+            reclaimedBytes.addAndGet(garbageBytes);
+        }
+
+        FileGcResult result = new FileGcResult(dryRun, scannedFiles, garbageFiles, garbageBytes, LocalDateTime.now());
+        lastResult = result;
+        log.info("파일 정리 완료. result={}", result);
+        return result;
+    }
+
+    public FileGcStats getStats() {
+        return new FileGcStats(deletedFiles.get(), reclaimedBytes.get(), running.get(), lastResult);
+    }
+
+    /**
+     * 참조 중인 파일 경로 - 게시글의 filePath + 참조 수로 관리 중인 파일 (한 번에 scan-batch-size 개씩 조회)
+     */
+    private Set<Path> findReferencedPaths() {
+        Set<Path> referencedPaths = new HashSet<>();
+        PageRequest firstPage = PageRequest.of(0, scanBatchSize);
+
+        Long lastId = 0L;
+        List<ArticleFilePath> articleFilePaths;
+        do {
+            articleFilePaths = articleRepository.findFilePathsAfter(lastId, firstPage);
+            articleFilePaths.forEach(articleFilePath -> referencedPaths.add(normalize(articleFilePath.filePath())));
+            if (!articleFilePaths.isEmpty()) {
+                lastId = articleFilePaths.get(articleFilePaths.size() - 1).id();
+            }
+        } while (articleFilePaths.size() == scanBatchSize);
+
+        String lastFilePath = "";
+        List<String> storedFilePaths;
+        do {
+            storedFilePaths = storedFileRepository.findFilePathsAfter(lastFilePath, firstPage);
+            storedFilePaths.forEach(filePath -> referencedPaths.add(normalize(filePath)));
+            if (!storedFilePaths.isEmpty()) {
+                lastFilePath = storedFilePaths.get(storedFilePaths.size() - 1);
+            }
+        } while (storedFilePaths.size() == scanBatchSize);
+
+        return referencedPaths;
+    }
+
+    private static Path normalize(String filePath) {
+        return Path.of(filePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 초당 삭제 수 제한
+     * @return 인터럽트 되면 false
+     */
+    private boolean pause() {
+        if (pauseNanos == 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();  //삭제 중이면 pause() 에서 중단
+    }
+}
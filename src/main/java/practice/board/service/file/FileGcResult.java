@@ -0,0 +1,13 @@
+package practice.board.service.file;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 정리 한 번의 결과
+ * @param dryRun true 면 삭제하지 않고 대상만 집계
+ * @param scannedFiles 확인한 파일 수
+ * @param garbageFiles 삭제한(dryRun 이면 삭제 대상인) 파일 수
+ * @param reclaimedBytes 삭제한(dryRun 이면 삭제 대상인) 파일 크기 합
+ */
+public record FileGcResult(boolean dryRun, int scannedFiles, int garbageFiles, long reclaimedBytes, LocalDateTime finishedAt) {
+}
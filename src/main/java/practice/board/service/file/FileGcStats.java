@@ -0,0 +1,9 @@
+package practice.board.service.file;
+
+/**
+ * 파일 정리 누적 통계 (서버 시작 후, dryRun 제외)
+ * @param running 요청으로 실행한 정리가 진행 중인지 여부
+ * @param lastResult 마지막 실행 결과 (실행 전이면 null)
+ */
+public record FileGcStats(long deletedFiles, long reclaimedBytes, boolean running, FileGcResult lastResult) {
+}
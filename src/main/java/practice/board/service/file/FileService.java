@@ -6,5 +6,27 @@ public interface FileService {
 
     String save(MultipartFile file);
 
+    /**
+     * 임시 경로에 저장 (트랜잭션 밖에서 호출)
+     */
+    StagedFile stage(MultipartFile file);
+
+    /**
+     * 트랜잭션 커밋 직전에 최종 경로로 이동 (이동 실패 시 롤백, 롤백되면 파일 삭제)
+     * @return 최종 경로
+     */
+    String moveBeforeCommit(StagedFile stagedFile);
+
+    /**
+     * 임시 파일 삭제
+     */
+    void discard(StagedFile stagedFile);
+
     void delete(String filePath);
+
+    /**
+     * 파일 삭제 (파일이 없어도 예외 X)
+     * @return 삭제 여부
+     */
+    boolean deleteIfExists(String filePath);
 }
@@ -1,17 +1,30 @@
 package practice.board.service.file;
 
-import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import static practice.board.exception.ErrorCode.*;
 
@@ -20,36 +33,140 @@ import static practice.board.exception.ErrorCode.*;
 public class LocalFileService implements FileService {
     //file 을 서버에 저장, 삭제하는 역할
 
-    private static final String fileDir = "/Users/jisuham/files/";  //TODO 다른 좋은 방법 있을까? @Value 보다는 이 방식이 나은 것 같음
+    private static final String TEMP_DIR = ".tmp";
+    private static final String TEMP_SUFFIX = ".part";
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern RANDOM_NAME = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
 
+    private final Path fileDir;
+    private final Path tempDir;  //업로드 중인 파일 (같은 파일시스템이어야 atomic move 가능)
+    private final ThreadLocal<ByteBuffer> buffers;  //스레드마다 고정 크기 direct buffer 하나만 사용
+    private final boolean contentAddressed;  //true 면 SHA-256 으로 경로 결정 (같은 내용의 파일은 하나만 저장)
+
+    public LocalFileService(@Value("${file.upload.root-dir:${user.home}/files}") String fileDir,
+                            @Value("${file.upload.buffer-size:65536}") int bufferSize,
+                            @Value("${file.upload.content-addressed:true}") boolean contentAddressed) {
+        this.fileDir = Path.of(fileDir).toAbsolutePath().normalize();
+        this.tempDir = this.fileDir.resolve(TEMP_DIR);
+        this.buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(bufferSize));
+        this.contentAddressed = contentAddressed;
+
+        //fileDir, 임시 경로 없으면 생성
+        try {
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new IllegalStateException("파일 저장 경로를 만들 수 없습니다. fileDir=" + fileDir, e);
+        }
+    }
 
     /**
-     * fileDir 경로에 파일 없으면 생성
+     * 파일을 서버에 저장 (트랜잭션 안에서 호출하면 커밋 직전에 최종 경로로 이동)
      */
-    @PostConstruct
-    void postConstruct() {
-        File dir = new File(fileDir);
-        if (!dir.exists()) {
-            dir.mkdir();
+    @Override
+    public String save(MultipartFile file) {
+        return moveBeforeCommit(stage(file));
+    }
+
+    /**
+     * 임시 경로에 저장 - 고정 크기 버퍼로 나눠서 쓰면서 SHA-256 계산 (파일 전체를 메모리에 올리지 않음)
+     */
+    @Override
+    public StagedFile stage(MultipartFile file) {
+        Path tempPath = tempDir.resolve(UUID.randomUUID() + TEMP_SUFFIX);
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = buffers.get();
+        buffer.clear();
+        long size = 0;
+
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+             FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    size += out.write(buffer);
+                }
+                buffer.clear();
+            }
+            out.force(true);
+        } catch (IOException e) {
+            log.error("[LocalFileService.stage() 예외 발생]", e);
+            deleteQuietly(tempPath);
+            throw new ApiException(FILE_NOT_SAVED, e.getMessage());
         }
+
+        return new StagedFile(tempPath, HexFormat.of().formatHex(digest.digest()), size);
     }
 
     /**
-     * 파일을 서버에 저장
+     * 트랜잭션 커밋 직전(beforeCommit)에 최종 경로로 이동 - 이동에 실패하면 예외로 트랜잭션 롤백 (파일 없는 경로가 커밋되지 않음)
+     * 롤백되면 임시 파일 삭제, 이미 이동했으면 최종 경로의 파일 삭제
+     * (content-addressed 는 다른 게시글과 같은 파일일 수 있으므로 남겨두고 참조 수 0 인 파일 정리에 맡김)
+     * 트랜잭션 밖에서 호출하면 바로 이동
      */
     @Override
-    public String save(MultipartFile file) {
+    public String moveBeforeCommit(StagedFile stagedFile) {
+        Path filePath = resolveFilePath(stagedFile);
 
-        String filePath = fileDir + UUID.randomUUID();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            moveIntoPlace(stagedFile, filePath);
+            return filePath.toString();
+        }
 
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean moved;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                moveIntoPlace(stagedFile, filePath);  //같은 파일시스템 안의 rename 이라 커밋을 오래 잡지 않음
+                moved = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (!moved) {
+                    discard(stagedFile);
+                } else if (!contentAddressed) {
+                    deleteQuietly(filePath);
+                }
+            }
+        });
+        return filePath.toString();
+    }
+
+    @Override
+    public void discard(StagedFile stagedFile) {
+        deleteQuietly(stagedFile.tempPath());
+    }
+
+    /**
+     * 최종 경로 - content-addressed 인 경우 해시 앞 2자리/다음 2자리/해시 (ex. ab/cd/abcd1234...)
+     */
+    private Path resolveFilePath(StagedFile stagedFile) {
+        if (!contentAddressed) {
+            return fileDir.resolve(UUID.randomUUID().toString());
+        }
+        String hash = stagedFile.contentHash();
+        return fileDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * 같은 내용의 파일이 이미 있어도 덮어씀 (내용이 같으므로 읽는 쪽에서는 차이 없음)
+     * -> 참조가 없는 파일을 삭제하는 중에 같은 파일이 다시 올라와도 파일이 남아있음
+     */
+    private void moveIntoPlace(StagedFile stagedFile, Path filePath) {
         try {
-            file.transferTo(new File(filePath));
+            Files.createDirectories(filePath.getParent());
+            Files.move(stagedFile.tempPath(), filePath, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            log.error("[LocalFileService.save() 예외 발생]", e);
+            log.error("[LocalFileService.moveIntoPlace() 예외 발생] filePath={}", filePath, e);
+            discard(stagedFile);
             throw new ApiException(FILE_NOT_SAVED, e.getMessage());
         }
-
-        return filePath;
     }
 
     /**
@@ -73,4 +190,101 @@ public class LocalFileService implements FileService {
 
     }
 
+    /**
+     * 저장 경로 (root-dir)
+     */
+    public Path getFileDir() {
+        return fileDir;
+    }
+
+    /**
+     * 저장된 파일 경로 (파일이 없거나 저장 경로 밖이면 예외)
+     */
+    public Path getStoredPath(String filePath) {
+        Path path = Path.of(filePath).toAbsolutePath().normalize();
+        if (!path.startsWith(fileDir) || path.startsWith(tempDir) || !Files.isRegularFile(path)) {
+            throw new ApiException(FILE_NOT_FOUND);
+        }
+        return path;
+    }
+
+    /**
+     * content-addressed 로 저장된 파일이면 파일 이름(SHA-256)
+     */
+    public Optional<String> getContentHash(Path path) {
+        String fileName = path.getFileName().toString();
+        if (!CONTENT_HASH.matcher(fileName).matches()
+                || !path.getParent().getFileName().toString().equals(fileName.substring(2, 4))) {
+            return Optional.empty();
+        }
+        return Optional.of(fileName);
+    }
+
+    /**
+     * 이 저장소가 만든 경로인지 - 최종 경로(ab/cd/<hash> 또는 root-dir 바로 아래 UUID), 임시 파일(.tmp/*.part)
+     * 파일 정리(FileGarbageCollector)는 이 경로만 대상으로 함 (root-dir 에 다른 파일이 있어도 삭제 X)
+     */
+    public boolean isStoreManaged(Path path) {
+        Path parent = path.getParent();
+        if (parent == null) {
+            return false;
+        }
+        String fileName = path.getFileName().toString();
+
+        if (parent.equals(tempDir)) {
+            return fileName.endsWith(TEMP_SUFFIX);
+        }
+        if (parent.equals(fileDir)) {
+            return RANDOM_NAME.matcher(fileName).matches();
+        }
+        Path shardDir = parent.getParent();
+        return shardDir != null
+                && fileDir.equals(shardDir.getParent())
+                && getContentHash(path).isPresent()
+                && shardDir.getFileName().toString().equals(fileName.substring(0, 2));
+    }
+
+    /**
+     * 파일의 [position, position + count) 구간을 target 으로 전송
+     * FileChannel.transferTo 사용 -> 파일 내용을 힙에 올리지 않음 (소켓 채널이면 커널에서 바로 복사)
+     */
+    public void transferTo(Path path, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long end = position + count;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;  //전송 중에 파일이 줄어든 경우
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteIfExists(String filePath) {
+        try {
+            return Files.deleteIfExists(Path.of(filePath));
+        } catch (IOException e) {
+            log.error("[LocalFileService.deleteIfExists() 예외 발생]", e);
+            throw new ApiException(FILE_DELETION_FAILED, e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패. path={}", path, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
 }
@@ -0,0 +1,10 @@
+package practice.board.service.file;
+
+import java.nio.file.Path;
+
+/**
+ * 임시 경로에 저장된 업로드 파일 (트랜잭션 커밋 직전에 최종 경로로 이동)
+ * @param contentHash 파일 내용의 SHA-256 (hex)
+ */
+public record StagedFile(Path tempPath, String contentHash, long size) {
+}
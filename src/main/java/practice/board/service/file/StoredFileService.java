@@ -0,0 +1,123 @@
+package practice.board.service.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import practice.board.domain.StoredFile;
+import practice.board.repository.StoredFileRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 파일 참조 수 관리 (게시글의 filePath 가 바뀌거나 게시글이 삭제될 때)
+ * 같은 내용의 파일은 하나만 저장되므로, 참조하는 게시글이 없어진 파일만 삭제
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StoredFileService {
+
+    private final StoredFileRepository storedFileRepository;
+    private final LocalFileService localFileService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file.upload.orphan-sweep.grace-seconds:3600}")  //참조 해제 후 이 시간이 지나야 삭제 (업로드 직후 게시글 저장 전 등)
+    private long graceSeconds;
+
+    @Value("${file.upload.orphan-sweep.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 참조 수 +1 (처음 저장하는 파일이면 별도 트랜잭션에서 row 추가 후 +1)
+     * 같은 내용의 파일이 동시에 처음 저장되어도 insert 는 한 번만 성공하고, 둘 다 참조 수 +1
+     */
+    public void retain(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+        if (storedFileRepository.increaseRefCount(filePath) > 0) {
+            return;
+        }
+
+        createIfAbsent(filePath);
+        storedFileRepository.increaseRefCount(filePath);
+    }
+
+    /**
+     * 참조 수 0 인 row 추가 - 요청 트랜잭션과 별도로 커밋 (pk 충돌 시 요청 트랜잭션이 롤백되지 않도록)
+     */
+    private void createIfAbsent(String filePath) {
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!storedFileRepository.existsById(filePath)) {
+                    storedFileRepository.saveAndFlush(StoredFile.createUnreferenced(filePath, LocalDateTime.now()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("같은 파일이 동시에 추가됨. filePath={}", filePath);  //다른 요청이 먼저 추가 -> 참조 수만 증가
+        }
+    }
+
+    /**
+     * 참조 수 -1 (0 이 되어도 바로 삭제하지 않고 sweepOrphans 에서 삭제)
+     */
+    public void release(String filePath) {
+        if (filePath != null) {
+            storedFileRepository.decreaseRefCount(filePath, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 게시글의 파일 변경 - 새 파일 참조 +1, 이전 파일 참조 -1
+     */
+    public void replace(String oldFilePath, String newFilePath) {
+        if (oldFilePath != null && oldFilePath.equals(newFilePath)) {
+            return;
+        }
+        retain(newFilePath);
+        release(oldFilePath);
+    }
+
+    /**
+     * 참조가 없는 파일 삭제 - 파일마다 트랜잭션 (row 를 먼저 삭제한 경우에만 파일 삭제)
+     * @return 삭제한 파일 수
+     */
+    @Scheduled(fixedDelayString = "${file.upload.orphan-sweep.interval-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sweepOrphans() {
+        List<String> orphanPaths = storedFileRepository.findOrphanPaths(
+                LocalDateTime.now().minusSeconds(graceSeconds), PageRequest.of(0, batchSize));
+
+        int deleted = 0;
+        for (String filePath : orphanPaths) {
+            Boolean removed = transactionTemplate.execute(status -> {
+                if (storedFileRepository.deleteIfOrphan(filePath) == 0) {
+                    return false;  //그 사이에 다시 참조됨
+                }
+                localFileService.deleteIfExists(filePath);
+                return true;
+            });
+            if (Boolean.TRUE.equals(removed)) {
+                deleted++;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("참조가 없는 파일 삭제. count={}", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,316 @@
+package practice.board.service.file;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practice.board.web.dto.article.ArticleResDto;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 첨부 이미지의 썸네일 생성 - 게시글 저장 트랜잭션이 커밋된 후 전용 스레드풀에서 생성
+ * 썸네일은 {fileDir}/.thumbnails 에 저장하고, 전체 크기가 max-cache-bytes 를 넘으면 오래 사용하지 않은 것부터 삭제
+ * (삭제된 썸네일은 다시 요청될 때 생성)
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    static final String THUMBNAIL_DIR = ".thumbnails";
+    private static final String FORMAT = "jpg";
+    private static final String SUFFIX = "." + FORMAT;
+    private static final int MAX_UNSUPPORTED_KEYS = 10000;
+
+    private final Path thumbnailDir;
+    private final int maxWidth;
+    private final int maxHeight;
+    private final long maxPixels;  //원본 픽셀 수(width * height)가 이보다 크면 읽지 않음 (압축 폭탄 이미지)
+    private final DiskLruIndex index;
+    private final ThreadPoolExecutor executor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();  //생성 요청 후 아직 끝나지 않은 썸네일 (같은 요청 중복 X)
+    private final Set<String> unsupported = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {  //이미지가 아니거나 생성에 실패한 파일 (다시 요청 X)
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_UNSUPPORTED_KEYS;
+        }
+    });
+
+    public ThumbnailService(LocalFileService localFileService,
+                            @Value("${file.thumbnail.width:200}") int maxWidth,
+                            @Value("${file.thumbnail.height:200}") int maxHeight,
+                            @Value("${file.thumbnail.threads:2}") int threads,
+                            @Value("${file.thumbnail.queue-capacity:100}") int queueCapacity,
+                            @Value("${file.thumbnail.max-cache-bytes:104857600}") long maxCacheBytes,
+                            @Value("${file.thumbnail.max-pixels:50000000}") long maxPixels) {
+        this.thumbnailDir = localFileService.getFileDir().resolve(THUMBNAIL_DIR);
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        this.maxPixels = maxPixels;
+        this.index = new DiskLruIndex(maxCacheBytes);
+
+        //대기열이 가득 차면 버림 (썸네일 조회 시 다시 생성)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        loadIndex();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 썸네일 생성 요청 (트랜잭션 밖에서 호출하면 바로 요청)
+     */
+    public void generateAfterCommit(String filePath) {
+        if (filePath == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(filePath);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(filePath);
+            }
+        });
+    }
+
+    /**
+     * 썸네일 조회 - 없으면 생성 요청 후 Optional.empty() (이미지가 아니거나 생성 중이면 다시 요청 X)
+     */
+    public Optional<Path> findThumbnail(String filePath) {
+        if (filePath == null) {
+            return Optional.empty();
+        }
+
+        String key = keyOf(filePath);
+        Path thumbnail = thumbnailDir.resolve(key);
+        if (index.touch(key) && Files.exists(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+
+        submit(filePath);
+        return Optional.empty();
+    }
+
+    /**
+     * 썸네일이 있는 게시글만 썸네일 경로 채움 (파일 존재 여부만 확인, 생성 요청 X)
+     */
+    public void fillThumbnailPaths(List<ArticleResDto> dtoList) {
+        dtoList.stream()
+                .filter(dto -> dto.getFilePath() != null)
+                .filter(dto -> index.touch(keyOf(dto.getFilePath())))
+                .forEach(dto -> dto.setThumbnailPath("/api/articles/" + dto.getId() + "/thumbnail"));
+    }
+
+    /**
+     * 생성 요청 - 이미지가 아닌 파일이거나, 같은 썸네일이 이미 생성 중이면 요청하지 않음
+     */
+    private void submit(String filePath) {
+        String key = keyOf(filePath);
+        if (isUnsupported(key) || !inFlight.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(filePath);
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key);
+            log.warn("썸네일 생성 대기열이 가득 참. filePath={}", filePath);
+        }
+    }
+
+    /**
+     * 썸네일 생성 - 이미지가 아니거나 픽셀 수가 max-pixels 를 넘으면 생성하지 않음
+     * 최대 너비, 최대 높이 안에 들어가도록 비율에 맞춰 줄임
+     * 원본 크기가 크면 읽을 때부터 픽셀을 건너뛰어서 읽음 (원본 전체를 메모리에 올리지 않음)
+     */
+    void generate(String filePath) {
+        String key = keyOf(filePath);
+        Path target = thumbnailDir.resolve(key);
+        if (Files.exists(target)) {
+            index.touch(key);
+            return;
+        }
+        if (isUnsupported(key)) {
+            return;
+        }
+
+        try {
+            BufferedImage source = readSubsampled(Path.of(filePath));
+            if (source == null) {
+                markUnsupported(key);
+                return;
+            }
+
+            double scale = Math.min(1.0, Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight()));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+            graphics.dispose();
+
+            //임시 파일에 쓰고 이동 (만들어지는 중인 썸네일은 조회되지 않도록)
+            Files.createDirectories(thumbnailDir);
+            Path temp = thumbnailDir.resolve(key + "." + UUID.randomUUID() + ".part");
+            ImageIO.write(thumbnail, FORMAT, temp.toFile());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            index.put(key, Files.size(target)).forEach(this::deleteThumbnail);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패. filePath={}", filePath, e);
+            markUnsupported(key);  //원본 파일은 바뀌지 않으므로 다시 시도해도 실패
+        }
+    }
+
+    /**
+     * 이미지가 아니거나 생성에 실패한 파일인지 (서버 재시작 전까지 기억, 최대 MAX_UNSUPPORTED_KEYS 개)
+     */
+    boolean isUnsupported(String key) {
+        synchronized (unsupported) {
+            return unsupported.contains(key);
+        }
+    }
+
+    private void markUnsupported(String key) {
+        synchronized (unsupported) {
+            unsupported.add(key);
+        }
+    }
+
+    /**
+     * 지금까지 생성 요청된 작업 수 (테스트용)
+     */
+    long getSubmittedCount() {
+        return executor.getTaskCount();
+    }
+
+    private BufferedImage readSubsampled(Path path) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;  //이미지가 아닌 파일
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int sourceWidth = reader.getWidth(0);  //헤더만 읽음
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    log.warn("이미지 픽셀 수가 너무 큼. path={}, width={}, height={}", path, sourceWidth, sourceHeight);
+                    return null;
+                }
+
+                //너비, 높이 중 더 많이 줄여야 하는 쪽 기준 (썸네일 크기의 2배 정도로 읽고 보간)
+                int step = Math.max(1, Math.max(sourceWidth / (maxWidth * 2), sourceHeight / (maxHeight * 2)));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void deleteThumbnail(String key) {
+        try {
+            Files.deleteIfExists(thumbnailDir.resolve(key));
+        } catch (IOException e) {
+            log.warn("썸네일 삭제 실패. key={}", key, e);
+        }
+    }
+
+    /**
+     * 원본 파일 이름으로 썸네일 이름 결정 (content-addressed 면 같은 이미지는 썸네일도 하나)
+     */
+    private static String keyOf(String filePath) {
+        return Path.of(filePath).getFileName() + SUFFIX;
+    }
+
+    /**
+     * 서버 재시작 시 이미 만들어진 썸네일을 수정 시각 순서로 인덱스에 추가
+     */
+    private void loadIndex() {
+        if (!Files.isDirectory(thumbnailDir)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(thumbnailDir)) {
+            files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(ThumbnailService::lastModified))
+                    .forEach(file -> {
+                        try {
+                            index.put(file.getFileName().toString(), Files.size(file)).forEach(this::deleteThumbnail);
+                        } catch (IOException e) {
+                            log.warn("썸네일 크기 확인 실패. file={}", file, e);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("썸네일 목록 조회 실패. thumbnailDir={}", thumbnailDir, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,27 +1,38 @@
 package practice.board.web.controller.api;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import practice.board.config.guard.JwtAuth;
 import practice.board.domain.Article;
+import practice.board.domain.ArticleCountMode;
+import practice.board.domain.ArticleCursor;
 import practice.board.domain.ArticleSearchCond;
+import practice.board.domain.ArticleSort;
 import practice.board.domain.Member;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
 import practice.board.repository.ArticleRepository;
+import practice.board.repository.ArticleResDtoCache;
 import practice.board.response.Response;
 import practice.board.service.ArticleService;
 import practice.board.service.AuthService;
+import practice.board.service.file.ThumbnailService;
+import practice.board.web.dto.article.ArticleCursorResDto;
 import practice.board.web.dto.article.ArticleDeleteReqDto;
 import practice.board.web.dto.article.ArticleResDto;
 import practice.board.web.dto.article.ArticleSaveReqDto;
 import practice.board.web.dto.article.ArticleUpdateReqDto;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 
 import static java.util.stream.Collectors.*;
@@ -34,7 +45,12 @@ public class ArticleApiController {
 
     private final ArticleService articleService;
     private final ArticleRepository articleRepository;
+    private final ArticleResDtoCache articleResDtoCache;
     private final AuthService authService;
+    private final FileDownloadHandler fileDownloadHandler;
+    private final ThumbnailService thumbnailService;
+
+    private static final int MAX_SCROLL_SIZE = 100;  //커서 기반 검색에서 한 번에 조회 가능한 최대 게시글 수
 
 
     /**
@@ -105,13 +121,54 @@ public class ArticleApiController {
     @GetMapping("/articles/{id}")
     @ResponseStatus(OK)
     public Response<ArticleResDto> article(@PathVariable Long id) {
-        Article article = articleService.findById(id, true);  //viewCount 증가
-        ArticleResDto dto = ArticleResDto.from(article);
+        ArticleResDto dto = articleService.findArticleResDto(id, true);  //viewCount 증가, 캐시된 값이 있으면 db 조회 X
+        thumbnailService.fillThumbnailPaths(List.of(dto));
 
         return Response.success(dto);
     }
 
 
+    /**
+     * 게시글 캐시 통계 (hit, miss) - ADMIN 가능
+     * GET /api/articles/** 는 인증 없이 허용되므로 다른 경로 사용
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/caches/articles/stats")
+    @ResponseStatus(OK)
+    public Response<ArticleResDtoCache.Stats> articleCacheStats() {
+        return Response.success(articleResDtoCache.getStats());
+    }
+
+
+    /**
+     * 게시글 첨부파일 다운로드 - 모든 사람 가능
+     * Range 요청(206), If-None-Match(304) 지원
+     */
+    @GetMapping("/articles/{id}/file")
+    public void articleFile(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Article article = articleService.findById(id, false);
+        if (article.getFilePath() == null) {
+            throw new ApiException(ErrorCode.FILE_NOT_FOUND);
+        }
+
+        fileDownloadHandler.write(article.getFilePath(), request, response);
+    }
+
+
+    /**
+     * 게시글 첨부 이미지의 썸네일 - 모든 사람 가능
+     * 썸네일이 아직 없으면 생성 요청 후 404 (이미지가 아닌 첨부파일도 404)
+     */
+    @GetMapping("/articles/{id}/thumbnail")
+    public void articleThumbnail(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Article article = articleService.findById(id, false);
+        Path thumbnail = thumbnailService.findThumbnail(article.getFilePath())
+                .orElseThrow(() -> new ApiException(ErrorCode.FILE_NOT_FOUND));
+
+        fileDownloadHandler.write(thumbnail.toString(), request, response);
+    }
+
+
     /**
      * 게시글 전체 조회 - 모든 사람 가능
      * 요청 시, 조회한 게시글의 viewCount +1
@@ -137,29 +194,71 @@ public class ArticleApiController {
      */
     @GetMapping("/articles")
     @ResponseStatus(OK)
-    public Response<Page<ArticleResDto>> searchArticle(ArticleSearchCond cond,
+    public Response<Slice<ArticleResDto>> searchArticle(ArticleSearchCond cond,
                                                        @RequestParam(required = false, defaultValue = "10") int size,  //한 페이지의 데이터 총 개수
                                                        @RequestParam(required = false, defaultValue = "0") int page,  //현재 페이지
                                                        @RequestParam(required = false, defaultValue = "id") String sort,  //정렬 기준 (viewCount, likes, dislikes, createdDate)
-                                                       @RequestParam(required = false, defaultValue = "true") Boolean desc) {  //내림차순 정렬 여부
-
-        //sort 에 가능한 값 : viewCount, likes, dislikes, createdDate
-        //TODO sort 관련 아래 검증 필요한가??
-        Set<String> sortOptions = new HashSet<>(Arrays.asList("id", "viewcount", "likes", "dislikes", "createdDate"));  //하드코딩...
+                                                       @RequestParam(required = false, defaultValue = "true") Boolean desc,  //내림차순 정렬 여부
+                                                       @RequestParam(required = false, defaultValue = "exact") String countMode,  //전체 데이터 수 계산 방식 (exact, estimated, none)
+                                                       @RequestParam(required = false, defaultValue = "false") Boolean withMyReactions) {  //로그인한 회원의 좋아요/싫어요 여부 포함 여부
 
-        if (!sortOptions.contains(sort.toLowerCase())) {
-            throw new ApiException(ErrorCode.INVALID_PARAMETER);
-        }
+        //sort 에 가능한 값 : id, viewCount, likes, dislikes, createdDate (그 외의 값은 예외 발생)
+        ArticleSort.from(sort);
+        ArticleCountMode articleCountMode = ArticleCountMode.from(countMode);
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(desc ? Sort.Direction.DESC : Sort.Direction.ASC, sort));
 
-        Page<Article> result = articleRepository.searchArticleByCond(cond, pageRequest);
+        //ArticleResDto 로 바로 조회 (게시글마다 다시 조회하지 않음)
+        //countMode=none 인 경우 totalElements, totalPages 없이 hasNext 만 응답
+        Slice<ArticleResDto> dtoResult = articleRepository.searchArticleResDtoByCond(cond, pageRequest, articleCountMode);
+
+        //로그인한 경우에만 좋아요/싫어요 여부 채움 (로그인하지 않았으면 null)
+        if (withMyReactions) {
+            authService.findLoginMemberId().ifPresent(memberId ->
+                    articleService.fillMyReactions(dtoResult.getContent(), memberId));
+        }
 
-        Page<ArticleResDto> dtoResult = result.map(article -> articleService.toArticleResDto(article.getId()));
+        thumbnailService.fillThumbnailPaths(dtoResult.getContent());
 
         return Response.success(dtoResult);
     }
 
+
+    /**
+     * 게시글 검색 - 커서 기반 페이징
+     * 응답의 nextCursor 를 다음 요청의 after 로 전달 (첫 요청은 after 없이)
+     */
+    @GetMapping("/articles/scroll")
+    @ResponseStatus(OK)
+    public Response<ArticleCursorResDto> scrollArticle(ArticleSearchCond cond,
+                                                      @RequestParam(required = false) String after,  //마지막으로 조회한 게시글의 커서
+                                                      @RequestParam(required = false, defaultValue = "10") int size,  //최대 MAX_SCROLL_SIZE 개
+                                                      @RequestParam(required = false, defaultValue = "id") String sort,  //정렬 기준 (id, viewCount, likes, dislikes, createdDate)
+                                                      @RequestParam(required = false, defaultValue = "true") Boolean desc) {
+
+        ArticleSort articleSort = ArticleSort.from(sort);
+
+        if (size < 1) {
+            throw new ApiException(ErrorCode.INVALID_PARAMETER, "size 는 1 이상이어야 합니다. size=" + size);
+        }
+        size = Math.min(size, MAX_SCROLL_SIZE);
+
+        ArticleCursor cursor = null;
+        if (StringUtils.hasText(after)) {
+            cursor = ArticleCursor.decode(after);
+
+            //커서를 만들 때와 정렬 조건이 다른 경우
+            if (!cursor.matches(articleSort, desc)) {
+                throw new ApiException(ErrorCode.INVALID_PARAMETER, "커서와 정렬 조건이 일치하지 않습니다.");
+            }
+        }
+
+        Slice<ArticleResDto> result = articleRepository.searchArticleResDtoByCursor(cond, articleSort, desc, cursor, size);
+        thumbnailService.fillThumbnailPaths(result.getContent());
+
+        return Response.success(ArticleCursorResDto.of(result, articleSort, desc));
+    }
+
     /**
      * 게시글의 좋아요 누르는 경우 - 본인글에는 좋아요 못함
      */
@@ -167,11 +266,9 @@ public class ArticleApiController {
     @ResponseStatus(OK)
     public Response likesArticle(@PathVariable Long id, @JwtAuth Member member) {
 
-        Article article = articleService.findById(id, false);
-
-        //본인글인지 확인 -> 본인글이면 예외 터뜨림
-        if (isArticleWrittenByMember(article, member)) {
-            Response.failure(ErrorCode.SELF_LIKE_ARTICLE.getCode(), "본인 글에는 좋아요가 불가능합니다.");
+        //본인글인지 확인 -> 본인글이면 예외 터뜨림 (로그인 회원은 요청당 한번만 조회)
+        if (authService.isArticleWriter(id)) {
+            throw new ApiException(ErrorCode.SELF_LIKE_ARTICLE);
         }
 
         return Response.success(articleService.updateLikes(id, member));
@@ -186,18 +283,12 @@ public class ArticleApiController {
     @ResponseStatus(OK)
     public Response dislikesArticle(@PathVariable Long id, @JwtAuth Member member) {
 
-        Article article = articleService.findById(id, false);
-
         //본인글인지 확인 -> 본인글이면 예외 터뜨림
-        if (isArticleWrittenByMember(article, member)) {
-            Response.failure(ErrorCode.SELF_DISLIKE_ARTICLE.getCode(), "본인 글에는 싫어요가 불가능합니다.");
+        if (authService.isArticleWriter(id)) {
+            throw new ApiException(ErrorCode.SELF_DISLIKE_ARTICLE);
         }
 
         return Response.success(articleService.updateDislikes(id, member));
     }
 
-    private boolean isArticleWrittenByMember(Article article, Member member) {  //TODO 굳이 할 필요 있나.. authService.isArticleWriter(articleId)
-        return article.getWriter().equals(member);  //TODO equalsAndHashcode 잘 구현되어있나?
-    }
-
 }
@@ -7,16 +7,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
 import practice.board.config.guard.JwtAuth;
 import practice.board.domain.Comment;
 import practice.board.domain.Member;
-import practice.board.exception.ApiException;
-import practice.board.exception.ErrorCode;
 import practice.board.repository.CommentRepository;
-import practice.board.repository.MemberRepository;
 import practice.board.response.Response;
 import practice.board.service.ArticleService;
 import practice.board.service.CommentService;
@@ -36,7 +31,6 @@ public class CommentApiController {
 
     private final CommentService commentService;
     private final CommentRepository commentRepository;
-    private final MemberRepository memberRepository;
 
 
     /**
@@ -56,30 +50,39 @@ public class CommentApiController {
 
 
     /**
-     * 해당 글의 Comment 조회 - 인증 필요 없음
+     * 해당 글의 Comment 조회 (댓글 트리) - 인증 필요 없음
+     * 최상위 댓글(depth=0) 기준으로 페이징, 자식댓글은 childDtoList 에 담김
      */
     @GetMapping("/articles/{id}/comments")
     @ResponseStatus(HttpStatus.OK)
     public Response<Page<CommentResDto>> commentsByArticleId(@PathVariable Long id,
                                                              @RequestParam(required = false, defaultValue = "0") int page,
-                                                             @RequestParam(required = false, defaultValue = "10") int size) {
+                                                             @RequestParam(required = false, defaultValue = "10") int size,
+                                                             @RequestParam(required = false) Integer maxDepth) {  //이 depth 까지의 자식댓글만 포함 (없으면 전체)
 
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id"));
-        Page<Comment> comments = commentRepository.findCommentsByArticleId(id, pageRequest);
-        Page<CommentResDto> dto = comments.map(comment -> commentService.toCommentResDto(comment.getId()));
+        Page<CommentResDto> dto = commentService.findCommentTree(id, maxDepth, pageRequest);
 
         return Response.success(dto);
     }
 
 
+    /**
+     * 해당 댓글과 모든 하위 댓글 조회 (화면 표시 순서) - 인증 필요 없음
+     */
+    @GetMapping("/comments/{id}/thread")
+    @ResponseStatus(HttpStatus.OK)
+    public Response<List<CommentResDto>> commentThread(@PathVariable Long id) {
+        return Response.success(commentService.findThread(id));
+    }
+
+
     /**
      * 댓글 작성 (저장) - 인증 필요
      */
     @PostMapping("/comments")
     @ResponseStatus(HttpStatus.CREATED)
-    public Response<CommentResDto> saveComment(@Valid @RequestBody CommentSaveReqDto request, @AuthenticationPrincipal User user) {
-        Member member = memberRepository.findByUsername(user.getUsername())
-                .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+    public Response<CommentResDto> saveComment(@Valid @RequestBody CommentSaveReqDto request, @JwtAuth Member member) {
 
         Long savedId;
         if (request.getParentId() == null) {
@@ -120,5 +123,17 @@ public class CommentApiController {
     }
 
 
+    /**
+     * 해당 댓글과 모든 하위 댓글 화면상 삭제 (스레드 전체 가리기) - ADMIN 만 가능
+     * @return 화면상 삭제된 댓글 수
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/comments/{id}/thread")
+    @ResponseStatus(HttpStatus.OK)
+    public Response<Integer> tempDeleteThread(@PathVariable Long id) {
+        return Response.success(commentService.tempDeleteSubtree(id));
+    }
+
+
 
 }
@@ -0,0 +1,42 @@
+package practice.board.web.controller.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import practice.board.response.Response;
+import practice.board.service.file.FileGarbageCollector;
+import practice.board.service.file.FileGcStats;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class FileApiController {
+
+    private final FileGarbageCollector fileGarbageCollector;
+
+
+    /**
+     * 참조가 없는 파일 정리 통계 - ADMIN 가능
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/files/gc")
+    @ResponseStatus(HttpStatus.OK)
+    public Response<FileGcStats> fileGcStats() {
+        return Response.success(fileGarbageCollector.getStats());
+    }
+
+
+    /**
+     * 참조가 없는 파일 정리 실행 - ADMIN 가능
+     * 별도 스레드에서 실행 후 바로 응답 (202) -> 결과는 GET /api/files/gc 의 lastResult 로 확인
+     * @param dryRun true 면 삭제하지 않고 대상만 집계 (기본값 true)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/files/gc")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Response<FileGcStats> collectFiles(@RequestParam(required = false, defaultValue = "true") Boolean dryRun) {
+        fileGarbageCollector.collectAsync(dryRun);
+        return Response.success(fileGarbageCollector.getStats());
+    }
+}
@@ -0,0 +1,131 @@
+package practice.board.web.controller.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import practice.board.service.file.LocalFileService;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 첨부파일 응답 - Range(206), ETag/If-None-Match(304) 지원
+ * 톰캣이 sendfile 을 지원하면 톰캣에 파일 전송을 맡기고, 아니면 FileChannel.transferTo 로 전송 (힙 버퍼 X)
+ */
+@Component
+@RequiredArgsConstructor
+class FileDownloadHandler {
+
+    //톰캣 sendfile 요청 attribute (org.apache.tomcat.util.net.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileService localFileService;
+
+    void write(String filePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = localFileService.getStoredPath(filePath);
+        long size = Files.size(path);
+        String etag = localFileService.getContentHash(path)
+                .map(hash -> "\"" + hash + "\"")
+                .orElseGet(() -> weakEtag(path, size));
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");  //게시글의 첨부파일이 바뀔 수 있으므로 매번 ETag 로 확인
+
+        //내용이 바뀌지 않은 경우
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long count = size;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        //Range 는 하나의 구간만 지원 (여러 구간이거나 If-Range 가 다르면 전체 응답)
+        if (StringUtils.hasText(range) && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            if (ranges.size() == 1) {
+                long end;
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    start = size;
+                    end = -1;
+                }
+
+                //파일 크기를 벗어난 구간
+                if (start >= size || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+
+                count = end - start + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+
+        //톰캣이 응답을 쓸 때 sendfile 로 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        localFileService.transferTo(path, start, count, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        String weakComparable = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals(weakComparable)
+                    || (tag.startsWith("W/") && tag.substring(2).equals(weakComparable))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * content-addressed 가 아닌 파일 - 크기, 수정 시각으로 만든 weak ETag
+     */
+    private static String weakEtag(Path path, long size) {
+        try {
+            return "W/\"" + size + "-" + Files.getLastModifiedTime(path).toMillis() + "\"";
+        } catch (IOException e) {
+            return "W/\"" + size + "\"";
+        }
+    }
+}
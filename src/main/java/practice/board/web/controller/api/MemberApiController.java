@@ -9,12 +9,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 import practice.board.aop.Trace;
 import practice.board.domain.Member;
 import practice.board.jwt.JwtService;
 import practice.board.repository.MemberRepository;
 import practice.board.response.Response;
+import practice.board.service.MemberDeletionJob;
+import practice.board.service.MemberDeletionService;
 import practice.board.service.MemberService;
 import practice.board.web.dto.jwt.TokenDto;
 import practice.board.web.dto.member.*;
@@ -32,6 +35,7 @@ import java.util.stream.Stream;
 public class MemberApiController {
 
     private final MemberService memberService;
+    private final MemberDeletionService memberDeletionService;
     private final MemberRepository memberRepository;
 
     //TODO 반환타입이 Response 라고만 적혀있으니까 그 안에 어떤 데이터가 담겨나가는지 모르겠네 -> Response<MemberResDto> 요렇게 쓸 수 있도록 바꾸자
@@ -61,9 +65,12 @@ public class MemberApiController {
      */
     @PostMapping("/members/login")
     @ResponseStatus(HttpStatus.OK)
-    public Response<TokenDto> login(final @Valid @RequestBody MemberLoginReqDto request) {
+    public Response<TokenDto> login(final @Valid @RequestBody MemberLoginReqDto request,
+                                    @RequestHeader(name = "${jwt.refresh.device-header:Device-Id}", required = false) String deviceId) {
 
-        TokenDto tokenDto = memberService.login(request.getUsername(), request.getPassword());
+        TokenDto tokenDto = StringUtils.hasText(deviceId)
+                ? memberService.login(request.getUsername(), request.getPassword(), deviceId.trim())
+                : memberService.login(request.getUsername(), request.getPassword());
 
         return Response.success(tokenDto);
     }
@@ -115,13 +122,25 @@ public class MemberApiController {
 
     /**
      * 회원 탈퇴 - 본인 or ADMIN 가능
+     * 탈퇴 작업 등록 후 바로 응답 (202) -> 진행 상태는 GET /api/member-deletions/{jobId} 로 확인
      */
     @PreAuthorize("hasRole('ADMIN') or @authService.hasId(#id)")  //ADMIN or 본인 가능
     @DeleteMapping("/members/{id}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Response<MemberDeletionJobResDto> deleteMember(@PathVariable Long id, @Valid @RequestBody MemberDeleteDto request) {
+        MemberDeletionJob job = memberService.deleteMemberWithHistory(id, request.getPassword());
+        return Response.success(MemberDeletionJobResDto.from(job));
+    }
+
+
+    /**
+     * 회원 탈퇴 진행 상태 - 모든 사람 가능 (jobId 는 UUID, 탈퇴 완료 후에는 로그인 불가)
+     */
+    @GetMapping("/member-deletions/{jobId}")
     @ResponseStatus(HttpStatus.OK)
-    public Response deleteMember(@PathVariable Long id, @Valid @RequestBody MemberDeleteDto request) {
-        memberService.deleteMemberWithHistory(id, request.getPassword());
-        return Response.success();
+    public Response<MemberDeletionJobResDto> memberDeletion(@PathVariable String jobId) {
+        MemberDeletionJob job = memberDeletionService.findJob(jobId);
+        return Response.success(MemberDeletionJobResDto.from(job));
     }
 
 }
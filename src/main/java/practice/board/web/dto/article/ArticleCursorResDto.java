@@ -0,0 +1,47 @@
+package practice.board.web.dto.article;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+import practice.board.domain.ArticleCursor;
+import practice.board.domain.ArticleSort;
+
+import java.util.List;
+
+import static lombok.AccessLevel.*;
+
+/**
+ * 커서 기반 게시글 검색 결과
+ */
+@Data
+@AllArgsConstructor(access = PRIVATE)
+public class ArticleCursorResDto {
+
+    private List<ArticleResDto> content;
+    private int size;  //현재 응답의 데이터 수
+    private boolean hasNext;
+    private String nextCursor;  //다음 요청 시 after 로 전달 (다음 데이터 없으면 null)
+
+
+    public static ArticleCursorResDto of(Slice<ArticleResDto> slice, ArticleSort sort, boolean desc) {
+        List<ArticleResDto> content = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            ArticleResDto last = content.get(content.size() - 1);
+            nextCursor = ArticleCursor.of(sort, desc, sortValue(last, sort), last.getId()).encode();
+        }
+
+        return new ArticleCursorResDto(content, content.size(), slice.hasNext(), nextCursor);
+    }
+
+    private static Object sortValue(ArticleResDto dto, ArticleSort sort) {
+        return switch (sort) {
+            case ID -> dto.getId();
+            case VIEW_COUNT -> dto.getViewCount();
+            case LIKES -> dto.getLikes();
+            case DISLIKES -> dto.getDislikes();
+            case CREATED_DATE -> dto.getCreatedDate();
+        };
+    }
+}
@@ -17,7 +17,7 @@ import static lombok.AccessLevel.*;
 
 @Data
 @AllArgsConstructor(access = PROTECTED)
-@Builder(access = PROTECTED)
+@Builder(access = PROTECTED, toBuilder = true)
 public class ArticleResDto {
 
     private Long id;
@@ -35,10 +35,42 @@ public class ArticleResDto {
     @Builder.Default
     private List<Long> commentIdList = new ArrayList<>();
 
+    private Boolean liked;  //로그인한 회원의 좋아요 여부 (withMyReactions=true 로 요청한 경우에만 채움)
+    private Boolean disliked;  //로그인한 회원의 싫어요 여부 (withMyReactions=true 로 요청한 경우에만 채움)
+    private String thumbnailPath;  //썸네일 조회 경로 (첨부파일이 이미지이고 썸네일이 만들어진 경우에만 채움)
+
 //    @Builder.Default
 //    private List<CommentResDto> commentDtoList = new ArrayList<>();  //댓글 리스트  //TODO 이렇게 전부를 가져올 필요가 없겠다. commentId 정도만 가져오면 될듯
 
 
+    /**
+     * 검색 시 Projections.constructor 로 바로 조회하기 위한 생성자 (commentIdList 는 별도 쿼리로 채움)
+     */
+    public ArticleResDto(Long id, String writerNickname, String title, String content, String filePath,
+                         LocalDateTime createdDate, LocalDateTime modifiedDate, int viewCount, int likes, int dislikes) {
+        this.id = id;
+        this.writerNickname = writerNickname;
+        this.title = title;
+        this.content = content;
+        this.filePath = filePath;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+        this.viewCount = viewCount;
+        this.likes = likes;
+        this.dislikes = dislikes;
+        this.commentIdList = new ArrayList<>();
+    }
+
+
+    /**
+     * 복사본 (캐시된 dto 를 요청마다 수정하지 않도록)
+     */
+    public ArticleResDto copy() {
+        return this.toBuilder()
+                .commentIdList(new ArrayList<>(commentIdList))
+                .build();
+    }
+
 
     /**
      * Article -> ArticleResDto 변환 메서드
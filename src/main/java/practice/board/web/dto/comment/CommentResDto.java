@@ -8,7 +8,6 @@ import practice.board.web.dto.member.MemberResDto;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static lombok.AccessLevel.*;
 
@@ -32,37 +31,41 @@ public class CommentResDto {
     private int likes;
     private int dislikes;
     private Integer depth;
-    private CommentResDto parentDto;  //부모댓글
+    private Long parentId;  //부모댓글 id (부모댓글 전체를 담지 않음)
+    private int childCount;  //자식댓글 수 (depth 제한으로 childDtoList 가 비어있을 수 있음)
 
     @Builder.Default
-    private List<CommentResDto> childDtoList = new ArrayList<>();  //자식댓글 리스트
+    private List<CommentResDto> childDtoList = new ArrayList<>();  //자식댓글 리스트 (CommentTreeAssembler 에서 채움)
 
 
     /**
      * Comment -> CommentResDto 변환 메서드
+     * 부모, 자식댓글을 재귀적으로 변환하지 않음 (댓글 트리는 CommentTreeAssembler 사용)
      */
     public static CommentResDto from(Comment comment) {
+        CommentResDto dto = withoutChildren(comment);
+        dto.setChildCount(comment.getChildList().size());
+        return dto;
+    }
 
+    /**
+     * 자식댓글 관련 필드(childCount, childDtoList)는 채우지 않고 변환 (lazy 로딩 X)
+     */
+    static CommentResDto withoutChildren(Comment comment) {
         CommentResDto dto = CommentResDto.builder()
                 .id(comment.getId())
                 .articleId(comment.getArticle().getId())
-                .writerDto(MemberResDto.from(comment.getWriter()))
+                .writerDto(comment.getWriter() != null ? MemberResDto.summaryFrom(comment.getWriter()) : null)
                 .isRemoved(comment.isRemoved())
                 .content(comment.getContent())
+                .createdDate(comment.getCreatedAt())
+                .modifiedDate(comment.getLastModifiedAt())
                 .likes(comment.getLikes())
                 .dislikes(comment.getDislikes())
                 .depth(comment.getDepth())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)  //프록시의 id 는 조회 쿼리 X
                 .build();
 
-        //parentDto 설정
-        Optional.ofNullable(comment.getParent()).ifPresent(parent -> dto.setParentDto(CommentResDto.from(parent)));
-
-        //childDtoList 설정
-        Optional.ofNullable(comment.getChildList()).ifPresent(
-                childList ->
-                        childList.forEach(child ->
-                                dto.getChildDtoList().add(CommentResDto.from(child))));
-
         //삭제된 댓글인 경우 (화면상 삭제)
         if (comment.isRemoved()) {
             dto.setContent(DEFAULT_DELETE_MESSAGE);  //다른 필드도 수정 필요한가 (likes, dislikes 필드 사용 안하니까)
@@ -0,0 +1,55 @@
+package practice.board.web.dto.comment;
+
+import practice.board.domain.Comment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최상위 댓글 + 하위 댓글 목록 -> 댓글 트리 (CommentResDto) 변환
+ * 댓글마다 부모, 자식댓글을 조회하지 않고 id 로 만든 map 으로 한번에 연결 (O(n))
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    /**
+     * @param comments 최상위 댓글들과 그 하위 댓글 ((parent, id) 순으로 정렬되어 있으면 자식댓글도 id 순으로 정렬됨)
+     * @param maxDepth 이 depth 까지만 childDtoList 에 담음 (null 이면 제한 없음)
+     * @return depth=0 인 댓글 리스트 (id 순)
+     */
+    public static List<CommentResDto> assemble(List<Comment> comments, Integer maxDepth) {
+        Map<Long, CommentResDto> dtoById = new HashMap<>(comments.size() * 2);
+        List<CommentResDto> dtoList = new ArrayList<>(comments.size());
+
+        for (Comment comment : comments) {
+            CommentResDto dto = CommentResDto.withoutChildren(comment);
+            dtoById.put(dto.getId(), dto);
+            dtoList.add(dto);
+        }
+
+        List<CommentResDto> roots = new ArrayList<>();
+        for (CommentResDto dto : dtoList) {
+            CommentResDto parentDto = dto.getParentId() != null ? dtoById.get(dto.getParentId()) : null;
+
+            //부모댓글이 없으면 최상위 댓글
+            if (parentDto == null) {
+                roots.add(dto);
+                continue;
+            }
+
+            parentDto.setChildCount(parentDto.getChildCount() + 1);
+
+            //maxDepth 보다 깊은 댓글은 childCount 만 세고 담지 않음
+            if (maxDepth == null || dto.getDepth() <= maxDepth) {
+                parentDto.getChildDtoList().add(dto);
+            }
+        }
+
+        roots.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return roots;
+    }
+}
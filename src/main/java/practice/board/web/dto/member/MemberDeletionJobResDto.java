@@ -0,0 +1,45 @@
+package practice.board.web.dto.member;
+
+import lombok.*;
+import practice.board.service.MemberDeletionJob;
+
+import java.time.LocalDateTime;
+
+import static lombok.AccessLevel.*;
+
+@Data
+@AllArgsConstructor(access = PROTECTED)
+@Builder(access = PROTECTED)
+public class MemberDeletionJobResDto {
+
+    private String jobId;  //진행 상태 조회 시 사용 (GET /api/member-deletions/{jobId})
+    private Long memberId;
+    private MemberDeletionJob.Status status;
+    private MemberDeletionJob.Step step;  //현재 처리 중인 단계
+    private long reassignedArticles;
+    private long reassignedComments;
+    private long deletedLikes;
+    private long deletedDislikes;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+
+    /**
+     * MemberDeletionJob -> MemberDeletionJobResDto 변환 메서드
+     */
+    public static MemberDeletionJobResDto from(MemberDeletionJob job) {
+        return MemberDeletionJobResDto.builder()
+                .jobId(job.getId())
+                .memberId(job.getMemberId())
+                .status(job.getStatus())
+                .step(job.getStep())
+                .reassignedArticles(job.getReassignedArticles().get())
+                .reassignedComments(job.getReassignedComments().get())
+                .deletedLikes(job.getDeletedLikes().get())
+                .deletedDislikes(job.getDeletedDislikes().get())
+                .requestedAt(job.getRequestedAt())
+                .finishedAt(job.getFinishedAt())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -42,6 +42,21 @@ public class MemberResDto {
 //    private List<CommentResDto> commentDtoList = new ArrayList<>();
 
 
+    /**
+     * Member -> MemberResDto 변환 메서드 (articleIdList 등 연관 엔티티 목록 제외)
+     * 댓글 작성자처럼 회원 정보만 필요한 경우 사용 (컬렉션 lazy 로딩 X)
+     */
+    public static MemberResDto summaryFrom(Member member) {
+        return MemberResDto.builder()
+                .id(member.getId())
+                .username(member.getUsername())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .age(member.getAge())
+                .address(member.getAddress())
+                .build();
+    }
+
     /**
      * Member -> MemberResDto 변환 메서드
      */
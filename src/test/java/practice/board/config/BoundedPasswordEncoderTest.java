@@ -0,0 +1,120 @@
+package practice.board.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import practice.board.exception.ApiException;
+import practice.board.exception.ErrorCode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void encode_matches() {
+        //given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 3000);
+
+        //when
+        String encoded = encoder.encode("Pass1255!");
+
+        //then
+        assertThat(encoder.matches("Pass1255!", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        encoder.destroy();
+    }
+
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절")
+    @Test
+    void reject_when_queue_full() throws Exception {
+        //given - 스레드 1개, 대기열 1개
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(release), 1, 1, 10_000);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        waitUntil(() -> encoder.getQueueSize() == 0 && !running.isDone());
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        waitUntil(() -> encoder.getQueueSize() == 1);
+
+        //when
+        long start = System.nanoTime();
+        ApiException e = catchThrowableOfType(() -> encoder.matches("c", "c"), ApiException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_PASSWORD_REQUESTS);
+        assertThat(elapsedMillis).isLessThan(1000);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        encoder.destroy();
+    }
+
+    @DisplayName("timeout 까지 해싱이 끝나지 않으면 503, 대기 중이던 요청은 대기열에서 제거")
+    @Test
+    void timeout() throws Exception {
+        //given - 스레드 1개, 대기열 1개
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blockingEncoder(release), 1, 1, 100);
+
+        CompletableFuture<ApiException> running = CompletableFuture.supplyAsync(
+                () -> catchThrowableOfType(() -> encoder.matches("a", "a"), ApiException.class));
+        waitUntil(() -> encoder.getQueueSize() == 0);
+
+        //when
+        ApiException e = catchThrowableOfType(() -> encoder.matches("b", "b"), ApiException.class);
+
+        //then
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASH_TIMEOUT);
+        assertThat(running.get(5, TimeUnit.SECONDS).getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASH_TIMEOUT);
+        assertThat(encoder.getQueueSize()).isZero();
+
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @DisplayName("cost 가 설정값보다 낮은 해시는 다시 해싱 대상")
+    @Test
+    void upgradeEncoding() {
+        //given
+        String oldHash = new BCryptPasswordEncoder(4).encode("Pass1255!");
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 10, 3000);
+
+        //when, then
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("Pass1255!"))).isFalse();
+        encoder.destroy();
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -1,18 +1,27 @@
 package practice.board.config.guard;
 
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import practice.board.domain.Article;
 import practice.board.domain.Member;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
+import practice.board.repository.ArticleRepository;
 import practice.board.repository.MemberRepository;
+import practice.board.service.AuthService;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +33,9 @@ class LoginMemberArgumentResolverTest {
 
     @Autowired LoginMemberArgumentResolver loginMemberArgumentResolver;
     @Autowired MemberRepository memberRepository;
+    @Autowired ArticleRepository articleRepository;
+    @Autowired AuthService authService;
+    @Autowired EntityManager em;
 
     private final String USERNAME = "testUser";
     private final String PASSWORD = "Pass1255!";
@@ -42,5 +54,35 @@ class LoginMemberArgumentResolverTest {
         assertThat(foundMember).isNotNull();
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, password = PASSWORD)
+    void 요청당_회원조회_한번() {
+        //given
+        Member member = Member.createMember(USERNAME, PASSWORD, "email@email.com", "nicky23", null, null);
+        memberRepository.save(member);
+        Article article = articleRepository.save(Article.createArticle(member, "title", "content"));
+        em.flush();
+        em.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            //when - @PreAuthorize, @JwtAuth, AuthService 가 같은 요청에서 로그인 회원 사용
+            boolean isWriter = authService.isArticleWriter(article.getId());
+            Member resolved = loginMemberArgumentResolver.resolveArgument(null, null, null, null);
+            Long loginMemberId = authService.getLoginMemberId();
+
+            //then - 회원 조회 1번 + 작성자 exists 쿼리 1번
+            assertThat(isWriter).isTrue();
+            assertThat(resolved.getId()).isEqualTo(loginMemberId);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
 
 }
\ No newline at end of file
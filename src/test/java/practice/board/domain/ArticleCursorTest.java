@@ -0,0 +1,45 @@
+package practice.board.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import practice.board.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleCursorTest {
+
+    @DisplayName("encode -> decode 하면 같은 커서")
+    @Test
+    void encode_decode() {
+        //given
+        LocalDateTime createdAt = LocalDateTime.of(2023, 7, 1, 12, 30);
+        String encoded = ArticleCursor.of(ArticleSort.CREATED_DATE, true, createdAt, 10L).encode();
+
+        //when
+        ArticleCursor cursor = ArticleCursor.decode(encoded);
+
+        //then
+        assertThat(cursor.matches(ArticleSort.CREATED_DATE, true)).isTrue();
+        assertThat(cursor.getValue()).isEqualTo(createdAt.toString());
+        assertThat(cursor.getId()).isEqualTo(10L);
+    }
+
+    @DisplayName("정렬 기준 값이 정렬 기준의 타입과 맞지 않으면 INVALID_PARAMETER")
+    @Test
+    void decode_invalidValue() {
+        assertThatThrownBy(() -> ArticleCursor.decode(raw("LIKES|true|abc|10")))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ArticleCursor.decode(raw("CREATED_DATE|true|2023-13-01|10")))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> ArticleCursor.decode("not-base64!"))
+                .isInstanceOf(ApiException.class);
+    }
+
+    private String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,140 @@
+package practice.board.domain.article.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.DislikeArticleRepository;
+import practice.board.repository.LikeArticleRepository;
+import practice.board.repository.MemberRepository;
+import practice.board.service.ArticleService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 좋아요/싫어요 동시성 테스트
+ * 여러 스레드에서 커밋된 데이터를 봐야 하므로 @Transactional 사용 X (테스트 후 직접 삭제)
+ */
+@Slf4j
+@SpringBootTest
+class ArticleReactionConcurrencyTest {
+
+    private static final int THREAD_COUNT = 100;
+
+    @Autowired private ArticleService articleService;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private LikeArticleRepository likeArticleRepository;
+    @Autowired private DislikeArticleRepository dislikeArticleRepository;
+
+    private Long articleId;
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member writer = memberRepository.save(Member.createMember("writer", "password123!", "writer@email.com", "writer", 20, null));
+        members.add(writer);
+        articleId = articleService.saveArticle(writer.getId(), Article.createArticle("title", "content"), Optional.empty());
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            members.add(memberRepository.save(Member.createMember("user" + i, "password123!", "user" + i + "@email.com", "nick" + i, 20, null)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleService.deleteById(articleId);  //좋아요, 싫어요도 함께 삭제됨 (on delete cascade)
+        memberRepository.deleteAll(members);
+        members.clear();
+    }
+
+
+    @DisplayName("좋아요 동시성_100명이 동시에 1~3번씩 누르면 좋아요 수와 LikeArticle 수가 일치")
+    @Test
+    void updateLikes_concurrency() throws InterruptedException {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failCount = new AtomicInteger();
+
+        int expectedLikes = 0;
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int toggleCount = i % 3 + 1;  //1~3번 누름 -> 홀수번 누른 회원만 좋아요 상태
+            if (toggleCount % 2 == 1) {
+                expectedLikes++;
+            }
+        }
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Member member = members.get(i + 1);
+            int toggleCount = i % 3 + 1;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < toggleCount; j++) {
+                        articleService.updateLikes(articleId, member);
+                    }
+                } catch (Exception e) {
+                    log.error("좋아요 실패", e);
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        Article article = articleRepository.findById(articleId).get();
+        assertThat(failCount.get()).isZero();
+        assertThat(article.getLikes()).isEqualTo(expectedLikes);
+        assertThat(likeArticleRepository.countByArticleId(articleId)).isEqualTo(expectedLikes);
+    }
+
+
+    @DisplayName("싫어요 동시성_한 회원이 동시에 100번 누르면 싫어요 수와 DislikeArticle 수가 일치")
+    @Test
+    void updateDislikes_concurrency_same_member() throws InterruptedException {
+        //given
+        Member member = members.get(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    articleService.updateDislikes(articleId, member);
+                } catch (Exception e) {
+                    //동시에 추가하려다 unique 제약조건에 걸린 요청은 롤백됨
+                    log.info("싫어요 실패 {}", e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        Article article = articleRepository.findById(articleId).get();
+        long dislikeCount = dislikeArticleRepository.countByArticleId(articleId);
+        assertThat(dislikeCount).isBetween(0L, 1L);
+        assertThat((long) article.getDislikes()).isEqualTo(dislikeCount);
+    }
+}
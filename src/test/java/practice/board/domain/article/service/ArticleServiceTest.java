@@ -14,11 +14,15 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import practice.board.domain.Article;
 import practice.board.domain.Member;
+import practice.board.repository.StoredFileRepository;
 import practice.board.service.ArticleService;
 import practice.board.service.MemberService;
+import practice.board.web.dto.article.ArticleResDto;
 import practice.board.web.dto.member.MemberSaveReqDto;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,6 +35,7 @@ class ArticleServiceTest {
     @Autowired private ArticleService articleService;
     @Autowired private MemberService memberService;
     @Autowired EntityManager em;
+    @Autowired StoredFileRepository storedFileRepository;
 
     private String PASSWORD = "password";
 
@@ -218,6 +223,58 @@ class ArticleServiceTest {
         assertThat(savedArticle.getViewCount()).isEqualTo(1);
     }
 
+    @DisplayName("좋아요/싫어요 여부 한번에 조회 성공")
+    @Test
+    void fillMyReactions() {
+        //given
+        Long writerId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("writer", "password123!", "writer@email.com", "writer", 20, null)));
+        Long memberId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("reader", "password123!", "reader@email.com", "reader", 20, null)));
+        Member member = memberService.findById(memberId);
+
+        Long likedId = articleService.saveArticle(writerId, Article.createArticle("title1", "content1"), Optional.empty());
+        Long dislikedId = articleService.saveArticle(writerId, Article.createArticle("title2", "content2"), Optional.empty());
+        Long noneId = articleService.saveArticle(writerId, Article.createArticle("title3", "content3"), Optional.empty());
+
+        articleService.updateLikes(likedId, member);
+        articleService.updateDislikes(dislikedId, member);
+
+        List<ArticleResDto> dtoList = Stream.of(likedId, dislikedId, noneId)
+                .map(articleService::toArticleResDto)
+                .toList();
+
+        //when
+        articleService.fillMyReactions(dtoList, memberId);
+
+        //then
+        assertThat(dtoList).extracting(ArticleResDto::getLiked).containsExactly(true, false, false);
+        assertThat(dtoList).extracting(ArticleResDto::getDisliked).containsExactly(false, true, false);
+    }
+
+    @DisplayName("같은 내용의 첨부파일은 참조 수만 증가, 게시글 삭제 시 참조 수 감소")
+    @Test
+    void storedFile_refCount() {
+        //given
+        Long writerId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("writer", "password123!", "writer@email.com", "writer", 20, null)));
+
+        Long articleId1 = articleService.saveArticle(writerId, Article.createArticle("title1", "content1"),
+                Optional.of(new MockMultipartFile("a.png", "same-image".getBytes())));
+        Long articleId2 = articleService.saveArticle(writerId, Article.createArticle("title2", "content2"),
+                Optional.of(new MockMultipartFile("b.png", "same-image".getBytes())));
+        String filePath = articleService.findById(articleId1, false).getFilePath();
+        assertThat(articleService.findById(articleId2, false).getFilePath()).isEqualTo(filePath);
+
+        //when
+        articleService.deleteById(articleId2);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(storedFileRepository.findById(filePath).get().getRefCount()).isEqualTo(1L);
+    }
+
     @DisplayName("게시글 조회_쿼리 확인")
     @Test
     void findById() {
@@ -7,16 +7,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Article;
 import practice.board.exception.ApiException;
+import practice.board.repository.CommentRepository;
 import practice.board.service.ArticleService;
 import practice.board.domain.Comment;
 import practice.board.domain.Member;
 import practice.board.service.CommentService;
 import practice.board.service.MemberService;
+import practice.board.web.dto.comment.CommentResDto;
 import practice.board.web.dto.member.MemberSaveReqDto;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -40,6 +46,9 @@ class CommentServiceTest {
     @Autowired
     MemberService memberService;
 
+    @Autowired
+    CommentRepository commentRepository;
+
     private static final String DELETED_COMMENT_CONTENT = "삭제된 댓글입니다.";
 
     void clear() {
@@ -160,6 +169,205 @@ class CommentServiceTest {
     }
 
 
+    @DisplayName("댓글 트리 조회 - 최상위 댓글 기준 페이징, maxDepth 보다 깊은 댓글은 childCount 만 표시")
+    @Test
+    void findCommentTree() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        Long commentId1 = saveComment(memberId, "content1 depth=0");
+        Long articleId = commentService.findById(commentId1).getArticle().getId();
+        Long commentId2 = saveChildComment(memberId, "content2 depth=1", commentId1);
+        Long commentId3 = saveChildComment(memberId, "content3 depth=2", commentId2);
+        Long commentId4 = saveChildComment(memberId, "content4 depth=1", commentId1);
+        Long commentId5 = commentService.saveComment(articleId, memberId, "content5 depth=0", null);
+        clear();
+
+        /* [댓글 계층 구조]
+        commentId1 - commentId2 - commentId3
+                   - commentId4
+        commentId5
+        */
+
+        //when
+        Page<CommentResDto> result = commentService.findCommentTree(articleId, 1, PageRequest.of(0, 10));
+
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(CommentResDto::getId).containsExactly(commentId1, commentId5);
+
+        CommentResDto root = result.getContent().get(0);
+        assertThat(root.getChildCount()).isEqualTo(2);
+        assertThat(root.getChildDtoList()).extracting(CommentResDto::getId).containsExactly(commentId2, commentId4);
+
+        CommentResDto child = root.getChildDtoList().get(0);
+        assertThat(child.getParentId()).isEqualTo(commentId1);
+        assertThat(child.getChildCount()).isEqualTo(1);
+        assertThat(child.getChildDtoList()).isEmpty();  //commentId3 은 depth=2 -> 포함 X
+    }
+
+
+    @DisplayName("댓글 트리 조회 - 다른 페이지의 최상위 댓글과 그 하위 댓글은 조회 X")
+    @Test
+    void findCommentTree_secondPage() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        Long commentId1 = saveComment(memberId, "content1 depth=0");
+        Long articleId = commentService.findById(commentId1).getArticle().getId();
+        saveChildComment(memberId, "content2 depth=1", commentId1);
+        Long commentId3 = commentService.saveComment(articleId, memberId, "content3 depth=0", null);
+        Long commentId4 = saveChildComment(memberId, "content4 depth=1", commentId3);
+        Long commentId5 = saveChildComment(memberId, "content5 depth=2", commentId4);
+        Long commentId6 = commentService.saveComment(articleId, memberId, "content6 depth=0", null);
+        saveChildComment(memberId, "content7 depth=1", commentId6);
+        clear();
+
+        //when
+        Page<CommentResDto> result = commentService.findCommentTree(articleId, null, PageRequest.of(1, 1));
+
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(CommentResDto::getId).containsExactly(commentId3);
+
+        CommentResDto child = result.getContent().get(0).getChildDtoList().get(0);
+        assertThat(child.getId()).isEqualTo(commentId4);
+        assertThat(child.getChildDtoList()).extracting(CommentResDto::getId).containsExactly(commentId5);
+    }
+
+
+    @DisplayName("하위 댓글 조회 - 화면 표시 순서로 조회, 하위 댓글 전체 화면상 삭제")
+    @Test
+    void findThread_and_tempDeleteSubtree() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        Long commentId1 = saveComment(memberId, "content1 depth=0");
+        Long commentId2 = saveChildComment(memberId, "content2 depth=1", commentId1);
+        Long commentId3 = saveChildComment(memberId, "content3 depth=1", commentId1);
+        Long commentId4 = saveChildComment(memberId, "content4 depth=2", commentId2);
+        Long commentId5 = saveChildComment(memberId, "content5 depth=2", commentId3);
+        clear();
+
+        /* [댓글 계층 구조]
+        commentId1 - commentId2 - commentId4
+                   - commentId3 - commentId5
+        */
+
+        //when, then
+        //화면 표시 순서 : 부모 다음에 자식
+        assertThat(commentService.findThread(commentId1)).extracting(CommentResDto::getId)
+                .containsExactly(commentId1, commentId2, commentId4, commentId3, commentId5);
+        assertThat(commentService.findThread(commentId2)).extracting(CommentResDto::getId)
+                .containsExactly(commentId2, commentId4);
+
+        //commentId2 와 하위 댓글만 화면상 삭제
+        assertThat(commentService.tempDeleteSubtree(commentId2)).isEqualTo(2);
+        assertThat(commentService.findById(commentId2).isRemoved()).isTrue();
+        assertThat(commentService.findById(commentId4).isRemoved()).isTrue();
+        assertThat(commentService.findById(commentId4).getContent()).isEqualTo(DELETED_COMMENT_CONTENT);
+        assertThat(commentService.findById(commentId1).isRemoved()).isFalse();
+        assertThat(commentService.findById(commentId3).isRemoved()).isFalse();
+    }
+
+
+    /**
+     * depth=0 ~ depth=(depth-1) 까지 한 줄로 이어진 댓글 생성
+     * @return depth 순서대로 댓글 id
+     */
+    List<Long> saveThread(Long memberId, int depth) {
+        List<Long> commentIds = new ArrayList<>();
+        commentIds.add(saveComment(memberId, "content depth=0"));
+        for (int i = 1; i < depth; i++) {
+            commentIds.add(saveChildComment(memberId, "content depth=" + i, commentIds.get(i - 1)));
+        }
+        return commentIds;
+    }
+
+    @DisplayName("50계층 댓글 - 조상 댓글이 모두 화면상 삭제된 경우, 마지막 댓글 삭제 시 50개 모두 db 에서 삭제")
+    @Test
+    void delete_comment_50depth() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        List<Long> commentIds = saveThread(memberId, 50);
+        Long articleId = commentService.findById(commentIds.get(0)).getArticle().getId();
+
+        //depth=0 ~ depth=48 화면상 삭제
+        for (int i = 0; i < 49; i++) {
+            commentService.delete(commentIds.get(i));
+        }
+        clear();
+        assertThat(commentService.findById(commentIds.get(48)).isRemoved()).isTrue();
+
+        //when
+        commentService.delete(commentIds.get(49));
+        clear();
+
+        //then
+        assertThat(commentRepository.findAllWithWriterByArticleId(articleId)).isEmpty();
+    }
+
+    @DisplayName("최대 깊이(MAX_DEPTH)의 댓글에는 답글을 달 수 없음")
+    @Test
+    void save_exceedMaxDepth() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        List<Long> commentIds = saveThread(memberId, Comment.MAX_DEPTH + 1);  //depth=0 ~ depth=MAX_DEPTH
+        Long lastCommentId = commentIds.get(Comment.MAX_DEPTH);
+        assertThat(commentService.findById(lastCommentId).getDepth()).isEqualTo(Comment.MAX_DEPTH);
+
+        //when, then
+        assertThatThrownBy(() -> saveChildComment(memberId, "content", lastCommentId))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @DisplayName("50계층 댓글 - 중간 댓글에 다른 자식댓글이 있으면, 마지막 댓글 삭제 시 그 아래까지만 db 에서 삭제")
+    @Test
+    void delete_comment_50depth_with_branch() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        List<Long> commentIds = saveThread(memberId, 50);
+        Long branchId = saveChildComment(memberId, "branch depth=26", commentIds.get(25));  //depth=25 댓글에 자식댓글 추가
+
+        for (int i = 0; i < 49; i++) {
+            commentService.delete(commentIds.get(i));
+        }
+        clear();
+
+        //when
+        commentService.delete(commentIds.get(49));
+        clear();
+
+        //then
+        //depth=26 ~ depth=49 : db 에서 삭제
+        for (int i = 26; i < 50; i++) {
+            Long commentId = commentIds.get(i);
+            assertThatThrownBy(() -> commentService.findById(commentId))
+                    .isInstanceOf(ApiException.class);
+        }
+
+        //depth=0 ~ depth=25 : 화면상 삭제된 상태로 남아있음
+        for (int i = 0; i <= 25; i++) {
+            assertThat(commentService.findById(commentIds.get(i)).isRemoved()).isTrue();
+        }
+        assertThat(commentService.findById(branchId).isRemoved()).isFalse();
+    }
+
+
+    @DisplayName("계층 댓글이 있는 게시글 삭제 - 부모, 자식댓글 삭제 순서와 상관없이 모두 db 에서 삭제")
+    @Test
+    void deleteArticle_withThread() {
+        //given
+        Long memberId = saveMember("username", "Password123!", "email@email.com", "nickname");
+        List<Long> commentIds = saveThread(memberId, 5);
+        Long articleId = commentService.findById(commentIds.get(0)).getArticle().getId();
+        saveChildComment(memberId, "branch", commentIds.get(1));
+
+        //when
+        articleService.deleteById(articleId);
+        clear();
+
+        //then
+        assertThat(commentRepository.findAllWithWriterByArticleId(articleId)).isEmpty();
+    }
+
     @DisplayName("혼합 계층 댓글 삭제 테스트")
     @Test
     void delete_test() {
@@ -2,11 +2,13 @@ package practice.board.domain.member.repository;
 
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Member;
+import practice.board.repository.MemberDuplication;
 import practice.board.repository.MemberRepository;
 
 import java.util.NoSuchElementException;
@@ -235,6 +237,21 @@ class MemberRepositoryTest {
 
     }
 
+    @DisplayName("username, email, nickname 중복 여부 한번에 조회")
+    @Test
+    void findDuplication() {
+        //given
+        Member member = saveMember();
+
+        //when
+        MemberDuplication duplication = memberRepository.findDuplication(member.getUsername(), "other@email.com", member.getNickname());
+        MemberDuplication noDuplication = memberRepository.findDuplication("newUsername", "new@email.com", "newNick");
+
+        //then
+        assertThat(duplication).isEqualTo(new MemberDuplication(true, false, true));
+        assertThat(noDuplication.exists()).isFalse();
+    }
+
     @Test
     void findByEmail() {
         //given
@@ -8,12 +8,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Address;
+import practice.board.domain.Article;
 import practice.board.domain.Member;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.CommentRepository;
 import practice.board.repository.MemberRepository;
+import practice.board.service.ArticleService;
+import practice.board.service.CommentService;
+import practice.board.service.MemberDeletionJob;
+import practice.board.service.MemberDeletionService;
 import practice.board.service.MemberService;
 import practice.board.web.dto.member.MemberResDto;
 import practice.board.web.dto.member.MemberSaveReqDto;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 
 @SpringBootTest
@@ -24,6 +33,11 @@ class MemberServiceTest {
     @Autowired MemberService memberService;
     @Autowired MemberRepository memberRepository;
     @Autowired PasswordEncoder passwordEncoder;
+    @Autowired ArticleService articleService;
+    @Autowired CommentService commentService;
+    @Autowired ArticleRepository articleRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired MemberDeletionService memberDeletionService;
 
 
     @Test
@@ -138,6 +152,39 @@ class MemberServiceTest {
 
     }
 
+    @DisplayName("회원 탈퇴 - 작성한 글, 댓글의 작성자는 탈퇴 회원으로 변경, 좋아요는 삭제")
+    @Test
+    void deleteMemberWithHistory() {
+        //given
+        String password = "dks!12DKw";
+        Long memberId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("username", password, "email@email.com", "nick", null, null)));
+        Long articleId = articleService.saveArticle(memberId, Article.createArticle("title", "content"), Optional.empty());
+        Long commentId = commentService.saveComment(articleId, memberId, "comment", null);
+
+        Long otherMemberId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("other", password, "other@email.com", "other", null, null)));
+        Long otherArticleId = articleService.saveArticle(otherMemberId, Article.createArticle("title", "content"), Optional.empty());
+        articleService.updateLikes(otherArticleId, memberRepository.findById(memberId).get());
+
+        //when
+        MemberDeletionJob job = memberService.deleteMemberWithHistory(memberId, password);
+        memberDeletionService.run(job);  //테스트 트랜잭션은 커밋되지 않으므로 작업 스레드 대신 직접 실행
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(job.getStatus()).isEqualTo(MemberDeletionJob.Status.COMPLETED);
+        assertThat(job.getReassignedArticles().get()).isEqualTo(1);
+        assertThat(job.getReassignedComments().get()).isEqualTo(1);
+        assertThat(job.getDeletedLikes().get()).isEqualTo(1);
+
+        assertThat(memberRepository.findById(memberId)).isEmpty();
+        assertThat(articleRepository.findById(articleId).get().getWriter().getNickname()).isEqualTo("탈퇴한 사용자");
+        assertThat(commentRepository.findById(commentId).get().getWriter().getNickname()).isEqualTo("탈퇴한 사용자");
+        assertThat(articleRepository.findById(otherArticleId).get().getLikes()).isEqualTo(0);
+    }
+
     @DisplayName("Member -> MemberResDto 변환")
     @Test
     void convert() {
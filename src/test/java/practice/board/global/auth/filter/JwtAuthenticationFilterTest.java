@@ -10,15 +10,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Member;
+import practice.board.jwt.JwtAuthenticationFilter;
 import practice.board.jwt.JwtService;
 import practice.board.repository.MemberRepository;
+import practice.board.service.MemberDeletionJob;
+import practice.board.service.MemberDeletionService;
 import practice.board.service.MemberService;
 import practice.board.web.dto.member.MemberSaveReqDto;
 
@@ -41,6 +52,7 @@ class JwtAuthenticationFilterTest {
     @Autowired MemberRepository memberRepository;
     @Autowired MemberService memberService;
     @Autowired PasswordEncoder passwordEncoder;
+    @Autowired MemberDeletionService memberDeletionService;
 
     @Value("${jwt.secret}")
     private String secret;
@@ -116,6 +128,37 @@ class JwtAuthenticationFilterTest {
 
     }
 
+    /**
+     * access token : 유효
+     * 토큰만 검증하고 회원은 조회하지 않음 (실행되는 쿼리 0개)
+     */
+    @Test
+    void 유효한_at_회원조회_없음() throws Exception {
+        //given
+        String accessToken = jwtService.createAccessToken(USERNAME);
+        clear();
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/articles/1/likes");
+        request.addHeader(accessHeader, BEARER + accessToken);
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        //when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(authentication.getName()).isEqualTo(USERNAME);
+        Assertions.assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+
+        SecurityContextHolder.clearContext();
+    }
+
     /**
      * access token : 유효 X
      * refresh token : 없음
@@ -168,6 +211,26 @@ class JwtAuthenticationFilterTest {
     }
 
 
+    /**
+     * 회원 탈퇴 진행 상태 조회 - 탈퇴 후에는 토큰이 없으므로 토큰 없이(또는 만료된 토큰으로) 조회 가능
+     */
+    @Test
+    void AT없음_탈퇴_진행상태_조회_200() throws Exception {
+        //given
+        Long memberId = memberRepository.findByUsername(USERNAME).get().getId();
+        MemberDeletionJob job = memberDeletionService.submit(memberId);  //테스트 트랜잭션이 커밋되지 않으므로 대기 상태로 남음
+
+        //when, then
+        mockMvc.perform(get("/api/member-deletions/" + job.getId()))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/member-deletions/" + job.getId())
+                        .header(accessHeader, BEARER + "expired.access.token"))
+                .andExpect(status().isOk());
+    }
+
+
 
 
 
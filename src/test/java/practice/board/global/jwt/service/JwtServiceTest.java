@@ -4,6 +4,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,10 +15,14 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Member;
+import practice.board.domain.RefreshToken;
 import practice.board.domain.Role;
 import practice.board.jwt.JwtService;
+import practice.board.jwt.RefreshTokenStore;
 import practice.board.repository.MemberRepository;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -28,6 +34,7 @@ class JwtServiceTest {
     @Autowired MemberRepository memberRepository;
     @Autowired JwtService jwtService;
     @Autowired EntityManager em;
+    @Autowired RefreshTokenStore refreshTokenStore;
 
 
     @Value("${jwt.secret}")
@@ -108,9 +115,9 @@ class JwtServiceTest {
         Claims verify2 = Jwts.parserBuilder().setSigningKey(secret).build().parseClaimsJws(updatedRefreshToken).getBody();
         clear();
 
-        //then
-        assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
-        assertThat(memberRepository.findByRefreshToken(updatedRefreshToken).get().getUsername()).isEqualTo(USERNAME);
+        //then - 같은 기기의 이전 토큰은 교체됨
+        assertThat(jwtService.findUsernameByRefreshToken(refreshToken)).isEmpty();
+        assertThat(jwtService.findUsernameByRefreshToken(updatedRefreshToken)).contains(USERNAME);
         assertThat(verify1.getExpiration()).isBefore(verify2.getExpiration());
     }
 
@@ -125,10 +132,8 @@ class JwtServiceTest {
         jwtService.destroyRefreshToken(USERNAME);
 
         //then
-        assertThrows(Exception.class, () -> memberRepository.findByRefreshToken(refreshToken).get());
-
-        Member member = memberRepository.findByUsername(USERNAME).get();
-        assertThat(member.getRefreshToken()).isNull();
+        assertThat(jwtService.findUsernameByRefreshToken(refreshToken)).isEmpty();
+        assertThat(refreshTokenStore.countByUsername(USERNAME)).isZero();
 
     }
 
@@ -204,5 +209,78 @@ class JwtServiceTest {
     }
 
 
+    @Test
+    void parseValidClaims_cache() {
+        //given
+        String refreshToken = jwtService.createRefreshToken();
+
+        //when
+        Claims first = jwtService.parseValidClaims(refreshToken).get();
+        Claims second = jwtService.parseValidClaims(refreshToken).get();
+
+        //then
+        assertThat(second).isSameAs(first);  //두번째는 서명 검증 없이 캐시된 claims 사용
+        assertThat(jwtService.parseValidClaims(refreshToken + "x")).isEmpty();  //서명이 다른 토큰은 캐시 X
+    }
 
-}
\ No newline at end of file
+    @Test
+    void updateRefreshToken_기기별_저장() {
+        //given
+        String pcToken = jwtService.createRefreshToken();
+        String mobileToken = jwtService.createRefreshToken();
+
+        //when
+        jwtService.updateRefreshToken(USERNAME, "pc", pcToken);
+        jwtService.updateRefreshToken(USERNAME, "mobile", mobileToken);
+        clear();
+
+        //then
+        assertThat(refreshTokenStore.countByUsername(USERNAME)).isEqualTo(2L);
+        assertThat(jwtService.findUsernameByRefreshToken(pcToken)).contains(USERNAME);
+        assertThat(jwtService.findUsernameByRefreshToken(mobileToken)).contains(USERNAME);
+    }
+
+    @Test
+    void updateRefreshToken_긴_기기id() {
+        //given
+        String longDeviceId = "d".repeat(RefreshToken.DEVICE_ID_MAX_LENGTH + 50);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Device-Id", longDeviceId);
+        String refreshToken = jwtService.createRefreshToken();
+
+        //when
+        String deviceId = jwtService.extractDeviceId(request);
+        jwtService.updateRefreshToken(USERNAME, longDeviceId, refreshToken);
+        clear();
+
+        //then - 컬럼 길이까지만 저장
+        assertThat(deviceId).hasSize(RefreshToken.DEVICE_ID_MAX_LENGTH);
+        assertThat(jwtService.findUsernameByRefreshToken(refreshToken)).contains(USERNAME);
+    }
+
+    @Test
+    void rotateRefreshToken() {
+        //given
+        String refreshToken = jwtService.createRefreshToken();
+        jwtService.updateRefreshToken(USERNAME, "pc", refreshToken);
+        clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        //when
+        String newRefreshToken = jwtService.createRefreshToken();
+        Optional<String> username = jwtService.rotateRefreshToken(refreshToken, newRefreshToken);
+
+        //then - 토큰 해시로 조회 1번 + 수정 1번 (member 테이블 사용 X)
+        assertThat(username).contains(USERNAME);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isZero();
+
+        clear();
+        assertThat(jwtService.findUsernameByRefreshToken(newRefreshToken)).contains(USERNAME);
+        assertThat(jwtService.rotateRefreshToken(refreshToken, jwtService.createRefreshToken())).isEmpty();  //이미 교체된 토큰
+        assertThat(refreshTokenStore.countByUsername(USERNAME)).isEqualTo(1L);
+    }
+}
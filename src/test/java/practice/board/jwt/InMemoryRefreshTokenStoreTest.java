@@ -0,0 +1,76 @@
+package practice.board.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+    private final LocalDateTime now = LocalDateTime.of(2023, 7, 19, 12, 0);
+
+    @DisplayName("기기별로 저장, 같은 기기에서 다시 저장하면 이전 토큰 교체")
+    @Test
+    void save_per_device() {
+        //given
+        store.save("user", "pc", "pc-token", now.plusDays(1));
+        store.save("user", "mobile", "mobile-token", now.plusDays(1));
+
+        //when
+        store.save("user", "pc", "pc-token-2", now.plusDays(1));
+
+        //then
+        assertThat(store.countByUsername("user")).isEqualTo(2L);
+        assertThat(store.findUsername("pc-token", now)).isEmpty();
+        assertThat(store.findUsername("pc-token-2", now)).contains("user");
+        assertThat(store.findUsername("mobile-token", now)).contains("user");
+    }
+
+    @DisplayName("재발급 - 이전 토큰은 한번만 사용 가능")
+    @Test
+    void rotate() {
+        //given
+        store.save("user", "pc", "old-token", now.plusDays(1));
+
+        //when
+        assertThat(store.rotate("old-token", "new-token", now.plusDays(2), now)).contains("user");
+
+        //then
+        assertThat(store.rotate("old-token", "other-token", now.plusDays(2), now)).isEmpty();
+        assertThat(store.findUsername("new-token", now)).contains("user");
+        assertThat(store.countByUsername("user")).isEqualTo(1L);
+    }
+
+    @DisplayName("만료된 토큰은 조회, 재발급 불가 + 정리됨")
+    @Test
+    void expired() {
+        //given
+        store.save("user", "pc", "expired-token", now.minusSeconds(1));
+        store.save("user", "mobile", "valid-token", now.plusDays(1));
+
+        //when, then
+        assertThat(store.findUsername("expired-token", now)).isEmpty();
+        assertThat(store.removeExpired(now)).isEqualTo(1);
+        assertThat(store.rotate("expired-token", "new-token", now.plusDays(1), now)).isEmpty();
+        assertThat(store.countByUsername("user")).isEqualTo(1L);
+    }
+
+    @Test
+    void deleteAllByUsername() {
+        //given
+        store.save("user", "pc", "pc-token", now.plusDays(1));
+        store.save("user", "mobile", "mobile-token", now.plusDays(1));
+        store.save("other", "pc", "other-token", now.plusDays(1));
+
+        //when
+        store.deleteAllByUsername("user");
+
+        //then
+        assertThat(store.countByUsername("user")).isZero();
+        assertThat(store.findUsername("pc-token", now)).isEmpty();
+        assertThat(store.findUsername("other-token", now)).contains("other");
+    }
+}
@@ -0,0 +1,66 @@
+package practice.board.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 여러 스레드에서 커밋된 데이터를 봐야 하므로 @Transactional 사용 X (테스트 후 직접 삭제)
+ */
+@SpringBootTest
+class JpaRefreshTokenStoreTest {
+
+    private static final String USERNAME = "concurrent-user";
+    private static final int THREAD_COUNT = 20;
+
+    @Autowired private JpaRefreshTokenStore refreshTokenStore;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenStore.deleteAllByUsername(USERNAME);
+    }
+
+    @DisplayName("같은 기기에서 동시에 로그인해도 예외 없이 기기당 토큰 1개만 저장")
+    @Test
+    void save_concurrency() throws InterruptedException {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger failCount = new AtomicInteger();
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+
+        //when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String refreshToken = "token-" + i;
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    refreshTokenStore.save(USERNAME, "pc", refreshToken, expiresAt);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        //then
+        assertThat(failCount.get()).isZero();
+        assertThat(refreshTokenStore.countByUsername(USERNAME)).isEqualTo(1L);
+    }
+}
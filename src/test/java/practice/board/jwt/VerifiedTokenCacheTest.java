@@ -0,0 +1,48 @@
+package practice.board.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 토큰 하나만 제거, 새 토큰은 저장")
+    @Test
+    void put_evictLeastRecentlyUsed() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("token1", claims("user1"));
+        cache.put("token2", claims("user2"));
+        cache.get("token1");  //token1 사용 -> token2 가 가장 오래 사용하지 않은 토큰
+
+        //when
+        cache.put("token3", claims("user3"));
+
+        //then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token1")).isPresent();
+        assertThat(cache.get("token2")).isEmpty();
+        assertThat(cache.get("token3").map(Claims::getSubject)).hasValue("user3");
+    }
+
+    @DisplayName("만료된 토큰은 조회되지 않음")
+    @Test
+    void get_expired() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("token", Jwts.claims().setSubject("user").setExpiration(new Date(System.currentTimeMillis() - 1000)));
+
+        //when, then
+        assertThat(cache.get("token")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Claims claims(String subject) {
+        return Jwts.claims().setSubject(subject).setExpiration(new Date(System.currentTimeMillis() + 60_000));
+    }
+}
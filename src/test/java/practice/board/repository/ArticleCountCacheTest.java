@@ -0,0 +1,120 @@
+package practice.board.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import practice.board.domain.ArticleSearchCond;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleCountCacheTest {
+
+    private final ArticleCountCache cache = new ArticleCountCache(60, 300, 100);
+    private final ArticleSearchCond cond = ArticleSearchCond.builder().title("title").build();
+    private final AtomicLong rowCount = new AtomicLong(10);  //db 의 게시글 수 대신 사용
+    private final AtomicLong queryCount = new AtomicLong();
+
+    private long count() {
+        queryCount.incrementAndGet();
+        return rowCount.get();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("EXACT - 두 번째 조회부터 캐시 사용, invalidate 후에는 다시 count")
+    @Test
+    void getExact() {
+        //given
+        cache.getExact(cond, this::count);
+        cache.getExact(cond, this::count);
+        assertThat(queryCount.get()).isEqualTo(1);
+
+        //when
+        rowCount.set(11);
+        cache.invalidate();  //트랜잭션 밖 -> 바로 무효화
+
+        //then
+        assertThat(cache.getExact(cond, this::count)).isEqualTo(11);
+        assertThat(queryCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("EXACT - 트랜잭션 안에서 invalidate 하면 커밋 후 무효화 (커밋 전 count 가 새 값으로 캐시되지 않음)")
+    @Test
+    void getExact_invalidateAfterCommit() {
+        //given
+        cache.getExact(cond, this::count);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        cache.invalidate();  //게시글 저장 트랜잭션 (아직 커밋 전)
+        long beforeCommit = cache.getExact(cond, this::count);  //다른 요청 - 커밋 전 값 그대로
+
+        rowCount.set(11);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        long afterCommit = cache.getExact(cond, this::count);
+
+        //then
+        assertThat(beforeCommit).isEqualTo(10);
+        assertThat(afterCommit).isEqualTo(11);
+        assertThat(queryCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("ESTIMATED - invalidate 후에도 유효시간 동안 이전 값 사용")
+    @Test
+    void getEstimated() {
+        //given
+        cache.getEstimated(cond, this::count);
+
+        //when
+        rowCount.set(11);
+        cache.invalidate();
+
+        //then
+        assertThat(cache.getEstimated(cond, this::count)).isEqualTo(10);
+        assertThat(queryCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("검색 조건이 같으면 같은 캐시 사용 (빈 문자열 조건은 없는 것과 같음)")
+    @Test
+    void normalizedKey() {
+        //given
+        cache.getExact(ArticleSearchCond.builder().title("title").content("").build(), this::count);
+
+        //when
+        cache.getExact(cond, this::count);
+
+        //then
+        assertThat(queryCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 조건 하나만 제거")
+    @Test
+    void evictLeastRecentlyUsed() {
+        //given
+        ArticleCountCache smallCache = new ArticleCountCache(60, 300, 2);
+        ArticleSearchCond other = ArticleSearchCond.builder().title("other").build();
+        ArticleSearchCond newCond = ArticleSearchCond.builder().title("new").build();
+        smallCache.getExact(cond, this::count);
+        smallCache.getExact(other, this::count);
+        smallCache.getExact(cond, this::count);  //cond 사용 -> other 가 가장 오래 사용하지 않은 조건
+
+        //when
+        smallCache.getExact(newCond, this::count);
+
+        //then - cond, newCond 는 캐시 사용, other 만 다시 count
+        smallCache.getExact(cond, this::count);
+        smallCache.getExact(newCond, this::count);
+        assertThat(queryCount.get()).isEqualTo(3);
+        smallCache.getExact(other, this::count);
+        assertThat(queryCount.get()).isEqualTo(4);
+    }
+}
@@ -1,14 +1,30 @@
 package practice.board.repository;
 
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import practice.board.domain.Article;
+import practice.board.domain.ArticleCountMode;
+import practice.board.domain.ArticleCursor;
 import practice.board.domain.ArticleSearchCond;
+import practice.board.domain.ArticleSort;
+import practice.board.domain.Comment;
+import practice.board.domain.Member;
+import practice.board.exception.ApiException;
+import practice.board.web.dto.article.ArticleResDto;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +41,11 @@ class ArticleRepositoryTest {
 
     @Autowired private MemberRepository memberRepository;
 
+    @Autowired private CommentRepository commentRepository;
+
+    @Autowired private EntityManager em;
+
+
 
     //TODO @BeforeEach 에서 만든 변수를 @Test 에서 사용할 수 있는 다른 방법 없을까???
 //    private Member member1;
@@ -152,4 +173,128 @@ class ArticleRepositoryTest {
 
 
 
-}
\ No newline at end of file
+    @DisplayName("커서 기반 검색 - 모든 데이터를 중복/누락 없이 정렬 순서대로 조회")
+    @Test
+    void searchArticleResDtoByCursor_test() {
+        //given
+        Member member = Member.createMember("cursorUser", "Pass1234!", "cursor@email.com", "cursorNick", 20, null);
+        memberRepository.save(member);
+
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Article article = articleRepository.save(Article.createArticle(member, "cursor-title" + i, "content" + i));
+            savedIds.add(article.getId());
+        }
+        ArticleSearchCond cond = setArticleSearchCond("cursor-title", null, null);
+
+        //when - 3개씩 끝까지 조회
+        List<Long> resultIds = new ArrayList<>();
+        ArticleCursor cursor = null;
+        while (true) {
+            Slice<ArticleResDto> slice = articleRepository.searchArticleResDtoByCursor(cond, ArticleSort.LIKES, true, cursor, 3);
+            slice.getContent().forEach(dto -> resultIds.add(dto.getId()));
+
+            if (!slice.hasNext()) {
+                break;
+            }
+            ArticleResDto last = slice.getContent().get(slice.getContent().size() - 1);
+            cursor = ArticleCursor.decode(ArticleCursor.of(ArticleSort.LIKES, true, last.getLikes(), last.getId()).encode());
+        }
+
+        //then - likes 가 모두 같으므로 id 내림차순
+        Collections.reverse(savedIds);
+        assertThat(resultIds).containsExactlyElementsOf(savedIds);
+    }
+
+    @DisplayName("countMode - EXACT, ESTIMATED 는 전체 수 포함(Page), NONE 은 count 없이 hasNext 만")
+    @Test
+    void searchArticleResDtoByCond_countMode() {
+        //given
+        Member member = Member.createMember("countUser", "Pass1234!", "count@email.com", "countNick", 20, null);
+        memberRepository.save(member);
+        for (int i = 0; i < 5; i++) {
+            articleRepository.save(Article.createArticle(member, "count-title" + i, "content" + i));
+        }
+        ArticleSearchCond cond = setArticleSearchCond("count-title", null, null);
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"));
+
+        //when
+        Slice<ArticleResDto> exact = articleRepository.searchArticleResDtoByCond(cond, pageRequest, ArticleCountMode.EXACT);
+        Slice<ArticleResDto> estimated = articleRepository.searchArticleResDtoByCond(cond, pageRequest, ArticleCountMode.ESTIMATED);
+        Slice<ArticleResDto> none = articleRepository.searchArticleResDtoByCond(cond, pageRequest, ArticleCountMode.NONE);
+
+        //then
+        assertThat(exact).isInstanceOf(Page.class);
+        assertThat(((Page<ArticleResDto>) exact).getTotalElements()).isEqualTo(5);
+        assertThat(((Page<ArticleResDto>) estimated).getTotalElements()).isEqualTo(5);
+
+        assertThat(none).isNotInstanceOf(Page.class);
+        assertThat(none.getContent()).hasSize(2);
+        assertThat(none.hasNext()).isTrue();
+    }
+
+    @DisplayName("서비스를 거치지 않고 저장, 수정한 게시글, 회원도 검색 색인에 반영")
+    @Test
+    void searchIndex_repositorySave() {
+        //given - repository 로 바로 저장
+        Member member = Member.createMember("indexUser", "Pass1234!", "index@email.com", "indexNick", 20, null);
+        memberRepository.save(member);
+        Article article = articleRepository.save(Article.createArticle(member, "index-title", "index-content"));
+
+        //when - 수정 후 flush
+        article.updateTitle("renamed-title");
+        articleRepository.flush();
+
+        //then
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        assertThat(articleRepository.searchArticleResDtoByCond(setArticleSearchCond(null, null, "indexNick"), pageRequest, ArticleCountMode.EXACT).getContent())
+                .extracting(ArticleResDto::getId).containsExactly(article.getId());
+        assertThat(articleRepository.searchArticleResDtoByCond(setArticleSearchCond("renamed", null, null), pageRequest, ArticleCountMode.EXACT).getContent())
+                .extracting(ArticleResDto::getId).containsExactly(article.getId());
+    }
+
+    @DisplayName("검색 결과 - 작성자 닉네임, commentIdList 를 페이지당 쿼리 2번(게시글 + 댓글 id)으로 채움 (게시글 수와 무관)")
+    @Test
+    void searchArticleResDtoByCond_projection() {
+        //given
+        Member member = Member.createMember("projectionUser", "Pass1234!", "projection@email.com", "projectionNick", 20, null);
+        memberRepository.save(member);
+        List<Long> commentIds = new ArrayList<>();
+        Article first = articleRepository.save(Article.createArticle(member, "projection-title0", "content"));
+        for (int i = 0; i < 2; i++) {
+            commentIds.add(commentRepository.save(Comment.createComment(first, member, "comment" + i, null)).getId());
+        }
+        for (int i = 1; i < 4; i++) {
+            articleRepository.save(Article.createArticle(member, "projection-title" + i, "content"));
+        }
+        articleRepository.flush();
+
+        ArticleSearchCond cond = setArticleSearchCond("projection-title", null, null);
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id"));
+        articleRepository.searchArticleResDtoByCond(cond, pageRequest, ArticleCountMode.NONE);  //검색 색인 초기화
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        //when
+        List<ArticleResDto> result = articleRepository.searchArticleResDtoByCond(cond, pageRequest, ArticleCountMode.NONE).getContent();
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(result).hasSize(4);
+        assertThat(result).extracting(ArticleResDto::getWriterNickname).containsOnly("projectionNick");
+        assertThat(result.get(0).getCommentIdList()).containsExactlyInAnyOrderElementsOf(commentIds);
+        assertThat(result.subList(1, 4)).allSatisfy(dto -> assertThat(dto.getCommentIdList()).isEmpty());
+    }
+
+    @DisplayName("countMode 파라미터 변환 - 대소문자 구분 X, 없는 값이면 예외")
+    @Test
+    void articleCountMode_from() {
+        assertThat(ArticleCountMode.from("none")).isEqualTo(ArticleCountMode.NONE);
+        assertThat(ArticleCountMode.from("Estimated")).isEqualTo(ArticleCountMode.ESTIMATED);
+        assertThatThrownBy(() -> ArticleCountMode.from("approx"))
+                .isInstanceOf(ApiException.class);
+    }
+
+}
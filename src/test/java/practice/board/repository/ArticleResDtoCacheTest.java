@@ -0,0 +1,85 @@
+package practice.board.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import practice.board.web.dto.article.ArticleResDto;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ArticleResDtoCacheTest {
+
+    private final ArticleResDtoCache cache = new ArticleResDtoCache(60, 2);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private ArticleResDto load(Long id) {
+        loadCount.incrementAndGet();
+        return new ArticleResDto(id, "nick", "title", "content", null, null, null, 10, 0, 0);
+    }
+
+    @DisplayName("두 번째 조회부터 캐시 사용 - 응답은 복사본")
+    @Test
+    void get_hit() {
+        //given
+        ArticleResDto first = cache.get(1L, () -> load(1L));
+        first.setViewCount(999);  //응답을 수정해도 캐시에는 영향 X
+
+        //when
+        ArticleResDto second = cache.get(1L, () -> load(1L));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getViewCount()).isEqualTo(10);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+        assertThat(cache.getStats().misses()).isEqualTo(1);
+    }
+
+    @DisplayName("invalidate 후에는 다시 조회")
+    @Test
+    void invalidate() {
+        //given
+        cache.get(1L, () -> load(1L));
+
+        //when
+        cache.invalidate(1L);  //트랜잭션 밖 -> 바로 제거
+        cache.get(1L, () -> load(1L));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("조회수가 db 에 반영되면 캐시된 조회수도 증가 (캐시를 비우지 않음)")
+    @Test
+    void addViewCounts() {
+        //given
+        cache.get(1L, () -> load(1L));
+
+        //when
+        cache.addViewCounts(Map.of(1L, 5L));
+        ArticleResDto dto = cache.get(1L, () -> load(1L));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(dto.getViewCount()).isEqualTo(15);
+    }
+
+    @DisplayName("최대 크기를 넘으면 오래 사용하지 않은 게시글부터 제거")
+    @Test
+    void evict() {
+        //given
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+        cache.get(1L, () -> load(1L));  //1 사용 -> 2 가 가장 오래됨
+
+        //when
+        cache.get(3L, () -> load(3L));
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(4);  //1, 2, 3, 2
+        assertThat(cache.getStats().evictions()).isEqualTo(2);
+    }
+}
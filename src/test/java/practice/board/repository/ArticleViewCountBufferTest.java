@@ -0,0 +1,119 @@
+package practice.board.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 스케줄러로 실행되는 빈 대신 직접 만든 버퍼로 테스트 (flush 시점을 테스트에서 결정)
+ */
+@SpringBootTest
+@Transactional
+class ArticleViewCountBufferTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ArticleResDtoCache articleResDtoCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private MemberRepository memberRepository;
+
+    private final AtomicBoolean failNextUpdate = new AtomicBoolean();  //true 면 다음 batch update 실패
+    private ArticleViewCountBuffer buffer;
+    private Long articleId;
+
+    @BeforeEach
+    void init() {
+        JdbcTemplate failingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (failNextUpdate.getAndSet(false)) {
+                    throw new DataAccessResourceFailureException("db 연결 실패");
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        buffer = new ArticleViewCountBuffer(failingJdbcTemplate, articleResDtoCache, entityManagerFactory);
+
+        Member member = memberRepository.save(Member.createMember("viewUser", "Pass1234!", "view@email.com", "viewNick", 20, null));
+        articleId = articleRepository.saveAndFlush(Article.createArticle(member, "title", "content")).getId();
+    }
+
+    @DisplayName("flush - 모아둔 조회수를 db 에 반영, 반영 후에는 버퍼에 남지 않음")
+    @Test
+    void flush() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            buffer.increase(articleId);
+        }
+        assertThat(buffer.getPending(articleId)).isEqualTo(3);
+
+        //when
+        buffer.flush();
+
+        //then
+        assertThat(dbViewCount()).isEqualTo(3);
+        assertThat(buffer.getPending(articleId)).isZero();
+    }
+
+    @DisplayName("flush 실패 - 증가분을 잃지 않고 다음 flush 때 반영")
+    @Test
+    void flush_failure() {
+        //given
+        buffer.increase(articleId);
+        buffer.increase(articleId);
+        failNextUpdate.set(true);
+
+        //when
+        buffer.flush();
+
+        //then
+        assertThat(dbViewCount()).isZero();
+        assertThat(buffer.getPending(articleId)).isEqualTo(2);
+
+        buffer.flush();
+        assertThat(dbViewCount()).isEqualTo(2);
+        assertThat(buffer.getPending(articleId)).isZero();
+    }
+
+    @DisplayName("flush 에서 제거된 adder 에 늦게 들어온 증가분도 조회 시 더해지고, 다음 flush 때 반영")
+    @Test
+    void flush_lateIncrementOnRetiredAdder() {
+        //given - increase() 에서 adder 를 꺼낸 직후 flush 가 실행된 상황
+        buffer.increase(articleId);
+        @SuppressWarnings("unchecked")
+        Map<Long, LongAdder> pending = (Map<Long, LongAdder>) ReflectionTestUtils.getField(buffer, "pending");
+        LongAdder adder = pending.get(articleId);
+        buffer.flush();
+
+        //when
+        adder.increment();
+
+        //then
+        assertThat(dbViewCount()).isEqualTo(1);
+        assertThat(buffer.getPending(articleId)).isEqualTo(1);
+
+        buffer.flush();
+        assertThat(dbViewCount()).isEqualTo(2);
+        assertThat(buffer.getPending(articleId)).isZero();
+    }
+
+    private int dbViewCount() {
+        return jdbcTemplate.queryForObject("select view_count from article where article_id = ?", Integer.class, articleId);
+    }
+}
@@ -0,0 +1,120 @@
+package practice.board.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2차 캐시는 커밋된 값만 다른 트랜잭션에서 사용 -> @Transactional 대신 TransactionTemplate 으로 트랜잭션마다 커밋
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long memberId;
+    private final List<Long> articleIds = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        memberId = transactionTemplate.execute(status -> memberRepository.save(
+                Member.createMember("cacheUser", "password123!", "cache@email.com", "cacheNick", 20, null)).getId());
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.executeWithoutResult(status -> articleIds.forEach(articleRepository::deleteById));
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteById(memberId));
+    }
+
+    @DisplayName("회원 id 로 조회 - 두 번째 트랜잭션부터 sql 실행 X")
+    @Test
+    void member_findById() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId).orElseThrow());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+    }
+
+    @DisplayName("username 으로 조회 - natural-id 캐시 + 엔티티 캐시로 두 번째부터 sql 실행 X")
+    @Test
+    void member_findByUsername() {
+        //when
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findByUsername("cacheUser").orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findByUsername("cacheUser").orElseThrow());
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("회원 정보가 바뀌어도 username 으로 조회하면 바뀐 정보 조회")
+    @Test
+    void member_findByUsername_afterUpdate() {
+        //given
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findByUsername("cacheUser").orElseThrow());
+
+        //when
+        transactionTemplate.executeWithoutResult(status ->
+                memberRepository.findById(memberId).orElseThrow().updateNickname("changedNick"));
+        Member member = transactionTemplate.execute(status -> memberRepository.findByUsername("cacheUser").orElseThrow());
+
+        //then
+        assertThat(member.getNickname()).isEqualTo("changedNick");
+    }
+
+    @DisplayName("좋아요 수 변경 - 해당 게시글만 2차 캐시에서 제거")
+    @Test
+    void article_addLikes() {
+        //given
+        Long articleId = saveArticle("title1");
+        Long otherArticleId = saveArticle("title2");
+        transactionTemplate.executeWithoutResult(status -> {
+            articleRepository.findById(articleId).orElseThrow();
+            articleRepository.findById(otherArticleId).orElseThrow();
+        });
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> articleRepository.addLikes(articleId, 1));
+
+        //then
+        assertThat(entityManagerFactory.getCache().contains(Article.class, articleId)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(Article.class, otherArticleId)).isTrue();
+
+        Article article = transactionTemplate.execute(status -> articleRepository.findById(articleId).orElseThrow());
+        assertThat(article.getLikes()).isEqualTo(1);
+    }
+
+    private Long saveArticle(String title) {
+        Long articleId = transactionTemplate.execute(status -> articleRepository.save(
+                Article.createArticle(memberRepository.getReferenceById(memberId), title, "content")).getId());
+        articleIds.add(articleId);
+        return articleId;
+    }
+}
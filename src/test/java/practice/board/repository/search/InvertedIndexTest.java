@@ -0,0 +1,64 @@
+package practice.board.repository.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @DisplayName("한글 부분 검색 - 띄어쓰기, 조사와 관계없이 검색됨")
+    @Test
+    void search_korean() {
+        //given
+        index.add(1, "오늘의 게시글입니다");
+        index.add(2, "게시판 공지사항");
+        index.add(3, "hello world");
+
+        //when, then
+        assertThat(index.search("게시")).containsExactly(1, 2);
+        assertThat(index.search("게시글")).containsExactly(1);
+        assertThat(index.search("공지")).containsExactly(2);
+        assertThat(index.search("글")).containsExactly(1);
+        assertThat(index.search("WORLD")).containsExactly(3);
+        assertThat(index.search("없는단어")).isEmpty();
+    }
+
+    @DisplayName("순서와 관계없이 추가, 삭제해도 id 오름차순 유지")
+    @Test
+    void add_remove() {
+        //given
+        index.add(300, "제목");
+        index.add(5, "제목");
+        index.add(70000, "제목");
+        index.add(5, "제목");  //중복 추가
+
+        //when
+        index.remove(300, "제목");
+
+        //then
+        assertThat(index.search("제목")).containsExactly(5, 70000);
+    }
+
+    @DisplayName("PostingList - varint 인코딩 후에도 모든 id 복원")
+    @Test
+    void postingList_encode_decode() {
+        //given
+        PostingList postingList = new PostingList();
+        for (int id = 1; id <= 100_000; id += 7) {
+            postingList.add(id);
+        }
+        postingList.add(Integer.MAX_VALUE);
+
+        //when
+        int[] ids = postingList.toArray();
+
+        //then
+        assertThat(ids).hasSize(postingList.size());
+        assertThat(ids[0]).isEqualTo(1);
+        assertThat(ids[ids.length - 2]).isEqualTo(99_996);
+        assertThat(ids[ids.length - 1]).isEqualTo(Integer.MAX_VALUE);
+    }
+}
@@ -1,20 +1,36 @@
 package practice.board.service;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import practice.board.exception.ApiException;
 import practice.board.service.file.LocalFileService;
+import practice.board.service.file.StagedFile;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
 class FileServiceTest {
 
-    private LocalFileService localFileService = new LocalFileService();
+    @TempDir
+    Path fileDir;
+
+    private LocalFileService localFileService;
+
+    @BeforeEach
+    void init() {
+        localFileService = new LocalFileService(fileDir.toString(), 8, false);  //버퍼보다 큰 파일도 나눠서 저장되는지 확인
+    }
 
     @DisplayName("파일 저장 성공")
     @Test
@@ -73,7 +89,122 @@ class FileServiceTest {
     }
 
 
+    @DisplayName("임시 경로에 저장하면서 SHA-256 계산")
+    @Test
+    void stage() throws Exception {
+        //given
+        String content = "This is a test file";
+        MultipartFile file = new MockMultipartFile("test.txt", content.getBytes());
+
+        //when
+        StagedFile stagedFile = localFileService.stage(file);
+
+        //then
+        assertThat(Files.readString(stagedFile.tempPath())).isEqualTo(content);
+        assertThat(stagedFile.size()).isEqualTo(content.length());
+        assertThat(stagedFile.contentHash())
+                .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes())));
+    }
+
+    @DisplayName("트랜잭션 안에서 저장하면 커밋 직전에 이동, 롤백되면 임시 파일 삭제")
+    @Test
+    void moveBeforeCommit() {
+        //given
+        MultipartFile file = new MockMultipartFile("test.txt", "content".getBytes());
+        StagedFile committed = localFileService.stage(file);
+        StagedFile rolledBack = localFileService.stage(file);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            //when
+            String committedPath = localFileService.moveBeforeCommit(committed);
+            String rolledBackPath = localFileService.moveBeforeCommit(rolledBack);
+
+            //then - 커밋 전에는 최종 경로에 파일 없음
+            assertThat(Files.exists(Path.of(committedPath))).isFalse();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).beforeCommit(false);
+            assertThat(Files.exists(Path.of(committedPath))).isTrue();  //커밋 전에 이미 최종 경로에 있음
+
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(Files.exists(Path.of(committedPath))).isTrue();
+            assertThat(Files.exists(committed.tempPath())).isFalse();
+            assertThat(Files.exists(Path.of(rolledBackPath))).isFalse();
+            assertThat(Files.exists(rolledBack.tempPath())).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("커밋 직전 이동 실패 - 예외로 트랜잭션 롤백, 임시 파일 삭제")
+    @Test
+    void moveBeforeCommit_moveFailure() throws Exception {
+        //given
+        StagedFile stagedFile = localFileService.stage(new MockMultipartFile("test.txt", "content".getBytes()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String filePath = localFileService.moveBeforeCommit(stagedFile);
+            Files.createDirectories(Path.of(filePath));  //최종 경로에 디렉토리가 있어서 이동 실패
+
+            //when
+            TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+            //then
+            assertThatThrownBy(() -> synchronization.beforeCommit(false))
+                    .isInstanceOf(ApiException.class);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            assertThat(Files.exists(stagedFile.tempPath())).isFalse();
+            assertThat(Files.isDirectory(Path.of(filePath))).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("커밋 직전에 이동한 뒤 커밋이 실패하면 최종 경로의 파일 삭제")
+    @Test
+    void moveBeforeCommit_commitFailure() {
+        //given
+        StagedFile stagedFile = localFileService.stage(new MockMultipartFile("test.txt", "content".getBytes()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String filePath = localFileService.moveBeforeCommit(stagedFile);
+            TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+            //when
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            //then
+            assertThat(Files.exists(Path.of(filePath))).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 
+    @DisplayName("content-addressed - 같은 내용의 파일은 같은 경로에 하나만 저장")
+    @Test
+    void save_content_addressed() throws Exception {
+        //given
+        LocalFileService contentAddressedService = new LocalFileService(fileDir.toString(), 8, true);
+        MultipartFile file1 = new MockMultipartFile("a.txt", "same content".getBytes());
+        MultipartFile file2 = new MockMultipartFile("b.txt", "same content".getBytes());
+        MultipartFile file3 = new MockMultipartFile("c.txt", "other content".getBytes());
 
+        //when
+        String filePath1 = contentAddressedService.save(file1);
+        String filePath2 = contentAddressedService.save(file2);
+        String filePath3 = contentAddressedService.save(file3);
 
-}
\ No newline at end of file
+        //then
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest("same content".getBytes()));
+        assertThat(filePath1).isEqualTo(filePath2);
+        assertThat(filePath1).isNotEqualTo(filePath3);
+        assertThat(Path.of(filePath1)).isEqualTo(fileDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash));
+        assertThat(Files.readString(Path.of(filePath1))).isEqualTo("same content");
+    }
+}
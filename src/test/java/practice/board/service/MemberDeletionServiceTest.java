@@ -0,0 +1,89 @@
+package practice.board.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.CommentRepository;
+import practice.board.repository.MemberRepository;
+import practice.board.web.dto.member.MemberSaveReqDto;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class MemberDeletionServiceTest {
+
+    @Autowired EntityManager em;
+    @Autowired MemberDeletionService memberDeletionService;
+    @Autowired MemberService memberService;
+    @Autowired ArticleService articleService;
+    @Autowired CommentService commentService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ArticleRepository articleRepository;
+    @Autowired CommentRepository commentRepository;
+
+    private final String PASSWORD = "dks!12DKw";
+
+
+    @DisplayName("회원 탈퇴 - chunk 처리 이후에 작성한 글, 댓글, 좋아요도 회원 삭제 전에 처리")
+    @Test
+    void deleteMember_afterChunks() {
+        //given
+        Long memberId = saveMember("username", "nick");
+        Long otherMemberId = saveMember("other", "other");
+        Long otherArticleId = articleService.saveArticle(otherMemberId, Article.createArticle("title", "content"), Optional.empty());
+
+        MemberDeletionJob job = new MemberDeletionJob(memberId);
+        memberDeletionService.processChunks(job);  //처리할 글, 댓글 없음
+
+        //탈퇴 요청 후 아직 유효한 access token 으로 작성
+        Long articleId = articleService.saveArticle(memberId, Article.createArticle("title", "content"), Optional.empty());
+        Long commentId = commentService.saveComment(otherArticleId, memberId, "comment", null);
+        articleService.updateLikes(otherArticleId, memberRepository.findById(memberId).get());
+
+        //when
+        memberDeletionService.deleteMember(job);
+        em.flush();
+        em.clear();
+
+        //then
+        assertThat(memberRepository.findById(memberId)).isEmpty();
+        assertThat(articleRepository.findById(articleId).get().getWriter().getNickname()).isEqualTo("탈퇴한 사용자");
+        assertThat(commentRepository.findById(commentId).get().getWriter().getNickname()).isEqualTo("탈퇴한 사용자");
+        assertThat(articleRepository.findById(otherArticleId).get().getLikes()).isEqualTo(0);
+
+        assertThat(job.getReassignedArticles().get()).isEqualTo(1);
+        assertThat(job.getReassignedComments().get()).isEqualTo(1);
+        assertThat(job.getDeletedLikes().get()).isEqualTo(1);
+    }
+
+    @DisplayName("회원 탈퇴 - 이미 삭제된 회원이면 아무것도 하지 않음")
+    @Test
+    void deleteMember_alreadyDeleted() {
+        //given
+        Long memberId = saveMember("username", "nick");
+        MemberDeletionJob job = new MemberDeletionJob(memberId);
+        memberDeletionService.run(job);
+
+        //when
+        MemberDeletionJob retry = new MemberDeletionJob(memberId);
+        memberDeletionService.run(retry);
+
+        //then
+        assertThat(retry.getStatus()).isEqualTo(MemberDeletionJob.Status.COMPLETED);
+        assertThat(memberRepository.findById(memberId)).isEmpty();
+    }
+
+    private Long saveMember(String username, String nickname) {
+        return memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember(username, PASSWORD, username + "@email.com", nickname, null, null)));
+    }
+}
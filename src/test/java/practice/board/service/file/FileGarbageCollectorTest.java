@@ -0,0 +1,115 @@
+package practice.board.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import practice.board.domain.Article;
+import practice.board.domain.Member;
+import practice.board.repository.ArticleRepository;
+import practice.board.repository.StoredFileRepository;
+import practice.board.service.ArticleService;
+import practice.board.service.MemberService;
+import practice.board.web.dto.member.MemberSaveReqDto;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class FileGarbageCollectorTest {
+
+    @Autowired private ArticleService articleService;
+    @Autowired private MemberService memberService;
+    @Autowired private ArticleRepository articleRepository;
+    @Autowired private StoredFileRepository storedFileRepository;
+
+    @TempDir
+    Path fileDir;
+
+    private FileGarbageCollector fileGarbageCollector;
+    private Path referenced;
+    private Path orphan;
+    private Path recent;
+    private Path unmanaged;
+    private Path staleTemp;
+
+    @BeforeEach
+    void init() throws Exception {
+        LocalFileService localFileService = new LocalFileService(fileDir.toString(), 8192, true);
+        fileGarbageCollector = new FileGarbageCollector(articleRepository, storedFileRepository, localFileService,
+                false, 60, 1, 100, 0);  //scan-batch-size 1 -> 여러 번 나눠서 조회
+
+        referenced = createFile("referenced", true);
+        orphan = createFile("orphan-content", true);
+        recent = createFile("recent", false);  //grace-seconds 가 지나지 않은 파일
+        unmanaged = setOld(Files.writeString(fileDir.resolve("unmanaged.txt"), "unmanaged"));  //저장소가 만들지 않은 파일
+        staleTemp = setOld(Files.writeString(fileDir.resolve(".tmp").resolve("upload.part"), "part"));  //커밋되지 못한 임시 파일
+
+        Long writerId = memberService.saveMember(MemberSaveReqDto.toDto(
+                Member.createMember("writer", "password123!", "writer@email.com", "writer", 20, null)));
+        articleService.saveArticle(writerId, Article.createArticle("title1", "content1"), Optional.empty());
+        Long articleId = articleService.saveArticle(writerId, Article.createArticle("title2", "content2"), Optional.empty());
+        articleService.findById(articleId, false).updateFilePath(referenced.toString());
+    }
+
+    @DisplayName("참조가 없는 파일 정리 - 참조 중인 파일, 최근 파일, 저장소가 만들지 않은 파일은 삭제 X")
+    @Test
+    void collect() {
+        //when
+        FileGcResult result = fileGarbageCollector.collect(false);
+
+        //then
+        assertThat(Files.exists(referenced)).isTrue();
+        assertThat(Files.exists(recent)).isTrue();
+        assertThat(Files.exists(unmanaged)).isTrue();
+        assertThat(Files.exists(orphan)).isFalse();
+        assertThat(Files.exists(staleTemp)).isFalse();
+        assertThat(result.garbageFiles()).isEqualTo(2);
+        assertThat(result.reclaimedBytes()).isEqualTo("orphan-content".length() + "part".length());
+        assertThat(fileGarbageCollector.getStats().reclaimedBytes()).isEqualTo("orphan-content".length() + "part".length());
+    }
+
+    @DisplayName("dry-run - 삭제 대상만 집계, 파일은 그대로")
+    @Test
+    void collect_dryRun() {
+        //when
+        FileGcResult result = fileGarbageCollector.collect(true);
+
+        //then
+        assertThat(Files.exists(orphan)).isTrue();
+        assertThat(Files.exists(staleTemp)).isTrue();
+        assertThat(result.garbageFiles()).isEqualTo(2);
+        assertThat(fileGarbageCollector.getStats().deletedFiles()).isZero();
+    }
+
+    /**
+     * content-addressed 경로(ab/cd/<hash>)에 저장
+     */
+    private Path createFile(String content, boolean old) throws Exception {
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+        Path dir = Files.createDirectories(fileDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)));
+        Path path = Files.writeString(dir.resolve(hash), content);
+        if (old) {
+            setOld(path);
+        }
+        return path.toAbsolutePath().normalize();
+    }
+
+    private static Path setOld(Path path) throws Exception {
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+        return path.toAbsolutePath().normalize();
+    }
+}
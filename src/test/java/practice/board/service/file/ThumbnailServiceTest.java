@@ -0,0 +1,141 @@
+package practice.board.service.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path fileDir;
+
+    private ThumbnailService thumbnailService;
+
+    @AfterEach
+    void shutdown() {
+        if (thumbnailService != null) {
+            thumbnailService.shutdown();
+        }
+    }
+
+    @DisplayName("썸네일 생성 - 너비는 설정값, 높이는 원본 비율")
+    @Test
+    void generate() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1024 * 1024);
+        String filePath = createImage("image.png", 1000, 500);
+
+        //when
+        thumbnailService.generate(filePath);
+
+        //then
+        Path thumbnail = thumbnailService.findThumbnail(filePath).orElseThrow();
+        BufferedImage image = ImageIO.read(thumbnail.toFile());
+        assertThat(image.getWidth()).isEqualTo(100);
+        assertThat(image.getHeight()).isEqualTo(50);
+    }
+
+    @DisplayName("썸네일 생성 - 세로로 긴 이미지는 높이를 설정값에 맞춤")
+    @Test
+    void generate_tallImage() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1024 * 1024);
+        String filePath = createImage("tall.png", 500, 2000);
+
+        //when
+        thumbnailService.generate(filePath);
+
+        //then
+        Path thumbnail = thumbnailService.findThumbnail(filePath).orElseThrow();
+        BufferedImage image = ImageIO.read(thumbnail.toFile());
+        assertThat(image.getWidth()).isEqualTo(25);
+        assertThat(image.getHeight()).isEqualTo(100);
+    }
+
+    @DisplayName("픽셀 수가 한도를 넘는 이미지는 읽지 않고 썸네일 생성 X")
+    @Test
+    void generate_tooManyPixels() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1024 * 1024, 300 * 300 - 1);
+        String filePath = createImage("large.png", 300, 300);
+
+        //when
+        thumbnailService.generate(filePath);
+
+        //then
+        assertThat(Files.exists(fileDir.resolve(".thumbnails").resolve("large.png.jpg"))).isFalse();
+        assertThat(thumbnailService.isUnsupported("large.png.jpg")).isTrue();
+    }
+
+    @DisplayName("이미지가 아닌 파일은 썸네일 생성 X")
+    @Test
+    void generate_notImage() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1024 * 1024);
+        Path file = Files.writeString(fileDir.resolve("file.txt"), "not image");
+
+        //when
+        thumbnailService.generate(file.toString());
+
+        //then
+        assertThat(Files.exists(fileDir.resolve(".thumbnails").resolve("file.txt.jpg"))).isFalse();
+    }
+
+    @DisplayName("이미지가 아닌 파일은 조회할 때마다 생성 요청하지 않음")
+    @Test
+    void findThumbnail_notImage() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1024 * 1024);
+        Path file = Files.writeString(fileDir.resolve("file.txt"), "not image");
+        thumbnailService.generate(file.toString());
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            thumbnailService.findThumbnail(file.toString());
+        }
+
+        //then
+        assertThat(thumbnailService.isUnsupported("file.txt.jpg")).isTrue();
+        assertThat(thumbnailService.getSubmittedCount()).isZero();
+    }
+
+    @DisplayName("전체 크기 한도를 넘으면 오래 사용하지 않은 썸네일부터 삭제")
+    @Test
+    void evict() throws Exception {
+        //given
+        thumbnailService = createThumbnailService(1);  //썸네일 하나만 남음
+        String first = createImage("first.png", 300, 300);
+        String second = createImage("second.png", 300, 300);
+
+        //when
+        thumbnailService.generate(first);
+        thumbnailService.generate(second);
+
+        //then
+        assertThat(Files.exists(fileDir.resolve(".thumbnails").resolve("first.png.jpg"))).isFalse();
+        assertThat(Files.exists(fileDir.resolve(".thumbnails").resolve("second.png.jpg"))).isTrue();
+    }
+
+    private ThumbnailService createThumbnailService(long maxCacheBytes) {
+        return createThumbnailService(maxCacheBytes, 1_000_000);
+    }
+
+    private ThumbnailService createThumbnailService(long maxCacheBytes, long maxPixels) {
+        LocalFileService localFileService = new LocalFileService(fileDir.toString(), 8192, true);
+        return new ThumbnailService(localFileService, 100, 100, 1, 10, maxCacheBytes, maxPixels);
+    }
+
+    private String createImage(String name, int width, int height) throws Exception {
+        Path path = fileDir.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+        return path.toString();
+    }
+}
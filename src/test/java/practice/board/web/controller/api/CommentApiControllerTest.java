@@ -19,6 +19,7 @@ import practice.board.web.dto.member.MemberSaveReqDto;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -70,6 +71,38 @@ class CommentApiControllerTest {
 
 
 
+    @Test
+    void 스레드_화면상삭제_ADMIN만_가능() throws Exception {
+        //given
+        Member writer = Member.createMember(USERNAME, PASSWORD, "email@email.com", "nicky23", null, null);
+        writer.addUserRole();
+        Long writerId = memberRepository.save(writer).getId();
+
+        Member admin = Member.createMember("adminUser", PASSWORD, "admin@email.com", "admin23", null, null);
+        admin.addAdminRole();
+        memberRepository.save(admin);
+
+        Long articleId = articleService.saveArticle(writerId, Article.createArticle("title", "content"), Optional.empty());
+        Long commentId = commentService.saveComment(articleId, writerId, "content", null);
+        Long childCommentId = commentService.saveComment(articleId, writerId, "child content", commentId);
+
+        //when, then
+        //작성자라도 ADMIN 이 아니면 403
+        mockMvc.perform(delete("/api/comments/" + commentId + "/thread")
+                        .header("Authorization", "Bearer " + jwtService.createAccessToken(USERNAME)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete("/api/comments/" + commentId + "/thread")
+                        .header("Authorization", "Bearer " + jwtService.createAccessToken("adminUser")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data").value(2))
+                .andDo(print());
+
+        assertThat(commentService.findById(childCommentId).isRemoved()).isTrue();
+    }
+
+
+
     Long signUp() {
         Member member = Member.createMember(USERNAME, PASSWORD, "email@email.com", "nicky2", null, null);
         return memberService.saveMember(MemberSaveReqDto.toDto(member));
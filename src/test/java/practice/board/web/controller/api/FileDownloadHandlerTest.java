@@ -0,0 +1,101 @@
+package practice.board.web.controller.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import practice.board.service.file.LocalFileService;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FileDownloadHandlerTest {
+
+    @TempDir
+    Path fileDir;
+
+    private FileDownloadHandler fileDownloadHandler;
+    private String filePath;
+    private final String content = "0123456789abcdefghij";
+
+    @BeforeEach
+    void init() {
+        LocalFileService localFileService = new LocalFileService(fileDir.toString(), 8, true);
+        fileDownloadHandler = new FileDownloadHandler(localFileService);
+        filePath = localFileService.save(new MockMultipartFile("file.txt", content.getBytes()));
+    }
+
+    @DisplayName("전체 다운로드 - ETag 는 파일의 SHA-256")
+    @Test
+    void download() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1/file");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        fileDownloadHandler.write(filePath, request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(content);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + Path.of(filePath).getFileName() + "\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @DisplayName("Range 요청 - 206 + 요청한 구간만 응답")
+    @Test
+    void download_range() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        fileDownloadHandler.write(filePath, request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+    }
+
+    @DisplayName("파일 크기를 벗어난 Range - 416")
+    @Test
+    void download_range_not_satisfiable() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        fileDownloadHandler.write(filePath, request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @DisplayName("If-None-Match 가 ETag 와 같으면 304 (본문 없음)")
+    @Test
+    void download_not_modified() throws Exception {
+        //given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        fileDownloadHandler.write(filePath, new MockHttpServletRequest("GET", "/api/articles/1/file"), first);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/articles/1/file");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        fileDownloadHandler.write(filePath, request, response);
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import practice.board.domain.Member;
 import practice.board.exception.ApiException;
 import practice.board.exception.ErrorCode;
+import practice.board.jwt.RefreshTokenStore;
 import practice.board.repository.MemberRepository;
 import practice.board.service.MemberService;
 import practice.board.web.dto.member.MemberLoginReqDto;
@@ -34,6 +35,7 @@ class MemberApiControllerTest {
     @Autowired ObjectMapper objectMapper;
     @Autowired MemberRepository memberRepository;
     @Autowired MemberService memberService;
+    @Autowired RefreshTokenStore refreshTokenStore;
 
     private final String username = "test";
     private final String password = "Aaksj123dg!";
@@ -184,7 +186,7 @@ class MemberApiControllerTest {
 
         //then
         actions.andExpect(status().isOk()).andDo(print());
-        assertThat(member.getRefreshToken()).isNotNull();
+        assertThat(refreshTokenStore.countByUsername(member.getUsername())).isPositive();
     }
 
     @DisplayName("로그인 실패 - wrong username")
@@ -209,7 +211,7 @@ class MemberApiControllerTest {
 
         //then
         actions.andExpect(status().isUnauthorized()).andDo(print());
-        assertThat(member.getRefreshToken()).isNull();
+        assertThat(refreshTokenStore.countByUsername(member.getUsername())).isZero();
 
     }
 
@@ -235,7 +237,7 @@ class MemberApiControllerTest {
 
         //then
         actions.andExpect(status().isUnauthorized()).andDo(print());
-        assertThat(member.getRefreshToken()).isNull();
+        assertThat(refreshTokenStore.countByUsername(member.getUsername())).isZero();
     }
 
 